@@ -0,0 +1,80 @@
+package org.example.demo.board.catalog;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.example.demo.board.dto.BoardItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Top-10 autocomplete lookup cost vs catalog size. Run with:
+ * <pre>
+ * cd benchmarks && ../mvnw package exec:exec -Djmh.filter=BoardNameSuggesterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardNameSuggesterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int catalogSize;
+
+    private BoardNameSuggester suggester;
+    private String[] prefixes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Set<String> names = new LinkedHashSet<>();
+        while (names.size() < catalogSize) {
+            // CJK names of 2..8 characters drawn from the first 3000 unified ideographs
+            int length = 2 + random.nextInt(7);
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append((char) (0x4E00 + random.nextInt(3000)));
+            }
+            names.add(sb.toString());
+        }
+
+        List<BoardItem> items = new ArrayList<>(catalogSize);
+        long id = 1;
+        for (String name : names) {
+            items.add(new BoardItem(id++, name, "desc"));
+        }
+        suggester = new BoardNameSuggester();
+        suggester.rebuild(items);
+
+        // one- and two-character prefixes of real names: what a search box sends per keystroke
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = items.get(random.nextInt(items.size())).getName();
+            prefixes[i] = name.substring(0, 1 + (i & 1));
+        }
+    }
+
+    @Benchmark
+    public List<BoardItem> suggestTop10() {
+        String prefix = prefixes[next++ & (prefixes.length - 1)];
+        return suggester.suggest(prefix, 10);
+    }
+}
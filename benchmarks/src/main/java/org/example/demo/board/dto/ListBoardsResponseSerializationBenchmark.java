@@ -0,0 +1,70 @@
+package org.example.demo.board.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Jackson serialization of a {@link ListBoardsResponse} page, with an {@code ObjectMapper}
+ * configured like Spring Boot's: per call through the mapper (what {@code BoardResponseCache}
+ * does on a miss) and through a writer resolved once. Run with:
+ * <pre>
+ * cd benchmarks && ../mvnw package exec:exec -Djmh.filter=ListBoardsResponseSerializationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListBoardsResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+    private ListBoardsResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writerFor(ListBoardsResponse.class);
+        List<BoardItem> items = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            items.add(new BoardItem((long) i + 1, "看板" + i, "第 " + i + " 個看板的描述"));
+        }
+        response = new ListBoardsResponse(1, rows, 1000L, items);
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] preparedWriter() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
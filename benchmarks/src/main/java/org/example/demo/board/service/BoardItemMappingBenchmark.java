@@ -0,0 +1,103 @@
+package org.example.demo.board.service;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.example.demo.board.dto.ListBoardsResponse;
+import org.example.demo.board.entity.Board;
+import org.example.demo.board.repository.BoardRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@code Board} entity to {@code BoardItem} mapping for one {@code listBoards} page on the
+ * FULLTEXT path (the other paths select {@code BoardItem} directly), measured through the
+ * public {@link BoardService#listBoards} with the repository answering from memory. The figure
+ * therefore includes the service's own work around the mapping: the read-only
+ * {@code TransactionTemplate} on a no-op manager, the {@code board.list} timer and the JFR
+ * event. Run with:
+ * <pre>
+ * cd benchmarks && ../mvnw package exec:exec -Djmh.filter=BoardItemMappingBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardItemMappingBenchmark {
+
+    // default and maximum pageSize
+    @Param({"20", "100"})
+    public int rows;
+
+    private BoardService boardService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Board> boards = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            boards.add(new Board("看板" + i, "第 " + i + " 個看板的描述"));
+        }
+        boardService = new BoardService(repository(boards), null, null, null, new NoOpTransactionManager(),
+                new SimpleMeterRegistry(), BoardTotalMode.EXACT, BoardSearchBackend.FULLTEXT, 2);
+    }
+
+    @Benchmark
+    public ListBoardsResponse exactTotal() {
+        return boardService.listBoards(1, rows, "看板", BoardTotalMode.EXACT);
+    }
+
+    @Benchmark
+    public ListBoardsResponse slice() {
+        return boardService.listBoards(1, rows, "看板", BoardTotalMode.NONE);
+    }
+
+    // only the two FULLTEXT queries are reachable from the benchmarks above
+    private static BoardRepository repository(List<Board> boards) {
+        return (BoardRepository) Proxy.newProxyInstance(BoardRepository.class.getClassLoader(),
+                new Class<?>[] {BoardRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "searchFullText" -> new PageImpl<>(boards, (Pageable) args[1], boards.size());
+                    case "searchFullTextSlice" -> new SliceImpl<>(boards, (Pageable) args[1], false);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
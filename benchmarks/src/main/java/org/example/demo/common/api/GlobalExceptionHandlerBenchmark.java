@@ -0,0 +1,61 @@
+package org.example.demo.common.api;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.demo.common.exception.RetryLaterException;
+import org.example.demo.user.exception.AuthenticationFailedException;
+import org.example.demo.user.exception.ValidationFailedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * {@link GlobalExceptionHandler} rendering an error response, from exception to body bytes:
+ * a 400 validation failure, a 401 and a 503 with {@code Retry-After}. Run with:
+ * <pre>
+ * cd benchmarks && ../mvnw package exec:exec -Djmh.filter=GlobalExceptionHandlerBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("POST", "/users/login");
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> validationFailed() {
+        return handler.handleApiException(new ValidationFailedException("PASSWORD_REQUIRED"), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> authenticationFailed() {
+        return handler.handleApiException(new AuthenticationFailedException(), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> serverBusy() {
+        return handler.handleRetryLater(new RetryLaterException(HttpStatus.SERVICE_UNAVAILABLE, "SERVER_BUSY", 1), request);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.demo.common.api;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.example.demo.user.dto.LoginRequest;
+import org.example.demo.user.exception.ValidationFailedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+/**
+ * Cost of rejecting a bad login body (validation, error code, exception, JSON body) next to
+ * the validation cost of a good one, plus the previous rejection path for comparison: two
+ * validation passes, regex-built codes, a stack-traced exception and a Jackson-serialized
+ * {@link ErrorResponse}. Run with:
+ * <pre>
+ * cd benchmarks && ../mvnw package exec:exec -Djmh.filter=RejectionPathBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RejectionPathBenchmark {
+
+    private Validator validator;
+    private ObjectMapper objectMapper;
+    private LoginRequest valid;
+    private LoginRequest invalid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        valid = new LoginRequest();
+        valid.setEmail("leo@example.com");
+        valid.setPassword("abc12345");
+        invalid = new LoginRequest();
+        invalid.setEmail("not-an-email");
+        invalid.setPassword(" ");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<LoginRequest>> acceptValid() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public byte[] rejectInvalid() {
+        try {
+            Set<ConstraintViolation<LoginRequest>> violations = validator.validate(invalid);
+            throw new ValidationFailedException(ValidationCodes.codeFor(LoginRequest.class, violations));
+        } catch (ValidationFailedException ex) {
+            return ErrorResponseTemplates.render(ex.getStatus(), ex.getMessageKey(), ex.getCode(), "/users/login",
+                    Instant.now());
+        }
+    }
+
+    @Benchmark
+    public byte[] rejectInvalidPrevious() throws Exception {
+        validator.validate(invalid);
+        Set<ConstraintViolation<LoginRequest>> violations = validator.validate(invalid);
+        try {
+            String field = violations.iterator().next().getPropertyPath().toString();
+            String code = field.replaceAll("([a-z])([A-Z]+)", "$1_$2").toUpperCase(Locale.ROOT) + "_REQUIRED";
+            throw new IllegalArgumentException(code);
+        } catch (IllegalArgumentException ex) {
+            HttpStatus status = HttpStatus.BAD_REQUEST;
+            return objectMapper.writeValueAsBytes(new ErrorResponse(status.value(), status.getReasonPhrase(),
+                    "VALIDATION_FAILED", ex.getMessage(), "/users/login", Instant.now()));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.demo.common.config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Requests per second for a burst of blocking requests, each holding a "connection" while a
+ * query runs, on Tomcat's default 200 platform threads versus one virtual thread per request.
+ * With {@code poolSize=0} only threads limit concurrency and virtual threads win by roughly
+ * burst/200; with a connection pool of 10 both modes top out at poolSize / queryMillis, which
+ * is the case the Hikari acquire percentiles are there to show. Run with:
+ * <pre>
+ * cd benchmarks && ../mvnw package exec:exec -Djmh.filter=VirtualThreadThroughputBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadThroughputBenchmark {
+
+    private static final int BURST = 2000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    // 0: unlimited connections, so threads are the only limit
+    @Param({"0", "10"})
+    public int poolSize;
+
+    @Param({"5"})
+    public int queryMillis;
+
+    private ExecutorService executor;
+    private Semaphore connections;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        connections = poolSize > 0 ? new Semaphore(poolSize, true) : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void blockingRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BURST);
+        for (int i = 0; i < BURST; i++) {
+            executor.execute(() -> {
+                try {
+                    query();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void query() throws InterruptedException {
+        if (connections == null) {
+            Thread.sleep(queryMillis);
+            return;
+        }
+        connections.acquire();
+        try {
+            Thread.sleep(queryMillis);
+        } finally {
+            connections.release();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.demo.user.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.demo.user.entity.User;
+import org.example.demo.user.security.AuthenticatedUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link JwtTokenService#generateAccessToken} (HS256 signing, once per login and refresh), next
+ * to verification with and without the verified-token cache. Run with:
+ * <pre>
+ * cd benchmarks && ../mvnw package exec:exec -Djmh.filter=JwtTokenServiceBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenServiceBenchmark {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private JwtTokenService cached;
+    private JwtTokenService uncached;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // revocation disabled: no repository behind it, and not what is measured here
+        TokenRevocationService revocations = new TokenRevocationService(null, false, 1000, 0.001);
+        cached = new JwtTokenService(SECRET, 3600, 10_000, revocations, new SimpleMeterRegistry());
+        uncached = new JwtTokenService(SECRET, 3600, 0, revocations, new SimpleMeterRegistry());
+        user = new User("leo@example.com", "{bcrypt}unused", "Leo") {
+            @Override
+            public Long getUserId() {
+                return 42L;
+            }
+        };
+        token = cached.generateAccessToken(user);
+        cached.verify(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return cached.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public AuthenticatedUser verifyCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser verifyUncached() {
+        return uncached.verify(token);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.demo.user.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * RP-001 input normalization, run on every register and login: already-normal input (the
+ * common case) and input that needs trimming and lower-casing. Run with:
+ * <pre>
+ * cd benchmarks && ../mvnw package exec:exec -Djmh.filter=NormalizerServiceBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NormalizerServiceBenchmark {
+
+    private final NormalizerService normalizer = new NormalizerService();
+
+    public String normalEmail = "leo@example.com";
+    public String messyEmail = "  Leo.Chen@Example.COM ";
+    public String messyName = "  Leo  ";
+
+    @Benchmark
+    public String normalizeNormalEmail() {
+        return normalizer.normalizeEmail(normalEmail);
+    }
+
+    @Benchmark
+    public String normalizeMessyEmail() {
+        return normalizer.normalizeEmail(messyEmail);
+    }
+
+    @Benchmark
+    public String normalizeDisplayName() {
+        return normalizer.normalizeDisplayName(messyName);
+    }
+}
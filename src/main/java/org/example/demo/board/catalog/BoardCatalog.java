@@ -0,0 +1,122 @@
+package org.example.demo.board.catalog;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.example.demo.board.dto.BoardItem;
+import org.example.demo.board.repository.BoardRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Holds the current {@link BoardSnapshot} so {@code GET /boards} can be answered from memory.
+ * <p>
+ * The snapshot is loaded once the application is ready, reloaded periodically to pick up
+ * changes made by other nodes, and reloaded after local board writes via
+ * {@link BoardWriteListener}. Readers never block: they grab whatever snapshot is current.
+ */
+@Component
+public class BoardCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardCatalog.class);
+
+    private final BoardRepository boardRepository;
+    private final BoardNameSuggester suggester;
+    private final boolean enabled;
+    private final AtomicReference<BoardSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    // not synchronized: a JDBC call inside a monitor pins the carrier of a virtual thread
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final ExecutorService refreshExecutor;
+
+    public BoardCatalog(
+            BoardRepository boardRepository,
+            BoardNameSuggester suggester,
+            @Value("${app.boards.snapshot.enabled:true}") boolean enabled,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.boardRepository = boardRepository;
+        this.suggester = suggester;
+        this.enabled = enabled;
+        this.refreshExecutor = Executors.newSingleThreadExecutor(virtualThreads
+                ? Thread.ofVirtual().name("board-catalog-refresh").factory()
+                : Thread.ofPlatform().name("board-catalog-refresh").daemon(true).factory());
+    }
+
+    /**
+     * Returns the current snapshot, or null when the catalog is disabled or has not loaded yet
+     * (callers fall back to the database).
+     */
+    public BoardSnapshot current() {
+        return enabled ? current.get() : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.boards.snapshot.refresh-ms:60000}", initialDelayString = "${app.boards.snapshot.refresh-ms:60000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Schedules an asynchronous reload after a local write. Requests that arrive while one is
+     * already queued are coalesced, so a burst of writes costs a single reload.
+     */
+    public void requestRefresh() {
+        if (!enabled || !refreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            refreshPending.set(false);
+            refresh();
+        });
+    }
+
+    /** Reloads the table and publishes a new snapshot if anything changed. */
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        refreshLock.lock();
+        try {
+            publish(boardRepository.findAllItems());
+        } catch (DataAccessException ex) {
+            // keep serving the previous snapshot; the next tick retries
+            log.warn("Failed to refresh board catalog snapshot", ex);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    void publish(List<BoardItem> rows) {
+        BoardSnapshot previous = current.get();
+        long nextVersion = previous == null ? 1L : previous.getVersion() + 1;
+        BoardSnapshot next = BoardSnapshot.of(nextVersion, rows);
+        if (next.sameContent(previous)) {
+            return;
+        }
+        // rebuild the suggester first so a reader never sees a new snapshot with an older trie
+        suggester.rebuild(rows);
+        current.set(next);
+    }
+}
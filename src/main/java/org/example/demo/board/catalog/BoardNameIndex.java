@@ -0,0 +1,124 @@
+package org.example.demo.board.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Character n-gram inverted index over lower-cased board names.
+ * <p>
+ * Board names are mostly CJK, so there is no word boundary to tokenize on. Instead every
+ * distinct unigram and bigram of a name maps to a sorted posting list of row positions.
+ * A keyword query intersects the posting lists of its bigrams (or reads its unigram list for
+ * one-character keywords) and callers verify survivors with {@link String#contains}, so
+ * results are exactly the {@code LIKE '%kw%'} matches, in row order.
+ */
+final class BoardNameIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Integer, int[]> unigrams;
+    private final Map<Integer, int[]> bigrams;
+
+    private BoardNameIndex(Map<Integer, int[]> unigrams, Map<Integer, int[]> bigrams) {
+        this.unigrams = unigrams;
+        this.bigrams = bigrams;
+    }
+
+    /** Builds the index; {@code lowerNames[i]} is the lower-cased name of row {@code i}. */
+    static BoardNameIndex build(String[] lowerNames) {
+        Map<Integer, IntList> uni = new HashMap<>();
+        Map<Integer, IntList> bi = new HashMap<>();
+        for (int row = 0; row < lowerNames.length; row++) {
+            String name = lowerNames[row];
+            for (int i = 0; i < name.length(); i++) {
+                uni.computeIfAbsent((int) name.charAt(i), k -> new IntList()).addDistinct(row);
+                if (i + 1 < name.length()) {
+                    bi.computeIfAbsent(bigramKey(name.charAt(i), name.charAt(i + 1)), k -> new IntList()).addDistinct(row);
+                }
+            }
+        }
+        return new BoardNameIndex(freeze(uni), freeze(bi));
+    }
+
+    /**
+     * Returns ascending row positions that may contain {@code needle}; every true match is
+     * included, false positives are possible for needles longer than two characters.
+     */
+    int[] candidates(String needle) {
+        if (needle.isEmpty()) {
+            return EMPTY;
+        }
+        if (needle.length() == 1) {
+            return unigrams.getOrDefault((int) needle.charAt(0), EMPTY);
+        }
+
+        List<int[]> lists = new ArrayList<>(needle.length() - 1);
+        for (int i = 0; i + 1 < needle.length(); i++) {
+            int[] postings = bigrams.get(bigramKey(needle.charAt(i), needle.charAt(i + 1)));
+            if (postings == null) {
+                return EMPTY;
+            }
+            lists.add(postings);
+        }
+        // intersect smallest-first so the working set only shrinks
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int bigramKey(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                out[n++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static Map<Integer, int[]> freeze(Map<Integer, IntList> lists) {
+        Map<Integer, int[]> frozen = new HashMap<>(lists.size() * 2);
+        lists.forEach((k, v) -> frozen.put(k, v.toArray()));
+        return frozen;
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        /** Rows are added in ascending order, so a repeat can only be the last element. */
+        void addDistinct(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
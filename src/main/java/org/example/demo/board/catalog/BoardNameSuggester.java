@@ -0,0 +1,134 @@
+package org.example.demo.board.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.example.demo.board.dto.BoardItem;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prefix trie over lower-cased board names backing {@code GET /boards/suggest}.
+ * <p>
+ * Nodes are immutable and keep their children in sorted {@code char[]} / {@code Node[]} pairs,
+ * so a lookup walks the prefix with binary searches and then collects the first matches in
+ * name order. {@link #add} path-copies the nodes along one name and publishes a new root, so
+ * a created board is suggestible right after commit; {@link #rebuild} replaces the whole trie
+ * whenever {@link BoardCatalog} publishes a changed snapshot. Readers never lock.
+ */
+@Component
+public class BoardNameSuggester {
+
+    private volatile Node root = Node.EMPTY;
+
+    /**
+     * Returns up to {@code limit} boards whose name starts with {@code prefix} (case-insensitive),
+     * an exact match first, then in name order.
+     */
+    public List<BoardItem> suggest(String prefix, int limit) {
+        String key = prefix.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<BoardItem> out = new ArrayList<>(limit);
+        collect(node, out, limit);
+        return out;
+    }
+
+    public synchronized void add(BoardItem item) {
+        root = insert(root, item.getName().toLowerCase(Locale.ROOT), 0, item);
+    }
+
+    public synchronized void rebuild(List<BoardItem> items) {
+        MutableNode builder = new MutableNode();
+        for (BoardItem item : items) {
+            String key = item.getName().toLowerCase(Locale.ROOT);
+            MutableNode node = builder;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new MutableNode());
+            }
+            node.terminal = item;
+        }
+        root = builder.freeze();
+    }
+
+    private static void collect(Node node, List<BoardItem> out, int limit) {
+        if (node.terminal != null) {
+            out.add(node.terminal);
+        }
+        for (int i = 0; i < node.children.length && out.size() < limit; i++) {
+            collect(node.children[i], out, limit);
+        }
+    }
+
+    private static Node insert(Node node, String key, int depth, BoardItem item) {
+        if (depth == key.length()) {
+            return new Node(node.keys, node.children, item);
+        }
+        char c = key.charAt(depth);
+        int idx = Arrays.binarySearch(node.keys, c);
+        Node child = idx >= 0 ? node.children[idx] : Node.EMPTY;
+        Node updated = insert(child, key, depth + 1, item);
+        if (idx >= 0) {
+            Node[] children = node.children.clone();
+            children[idx] = updated;
+            return new Node(node.keys, children, node.terminal);
+        }
+        int at = -idx - 1;
+        char[] keys = new char[node.keys.length + 1];
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.keys, 0, keys, 0, at);
+        System.arraycopy(node.children, 0, children, 0, at);
+        keys[at] = c;
+        children[at] = updated;
+        System.arraycopy(node.keys, at, keys, at + 1, node.keys.length - at);
+        System.arraycopy(node.children, at, children, at + 1, node.children.length - at);
+        return new Node(keys, children, node.terminal);
+    }
+
+    private static final class Node {
+
+        static final Node EMPTY = new Node(new char[0], new Node[0], null);
+
+        final char[] keys;
+        final Node[] children;
+        final BoardItem terminal;
+
+        Node(char[] keys, Node[] children, BoardItem terminal) {
+            this.keys = keys;
+            this.children = children;
+            this.terminal = terminal;
+        }
+
+        Node child(char c) {
+            int idx = Arrays.binarySearch(keys, c);
+            return idx >= 0 ? children[idx] : null;
+        }
+    }
+
+    private static final class MutableNode {
+
+        final Map<Character, MutableNode> children = new TreeMap<>();
+        BoardItem terminal;
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode> e : children.entrySet()) {
+                keys[i] = e.getKey();
+                frozen[i] = e.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, frozen, terminal);
+        }
+    }
+}
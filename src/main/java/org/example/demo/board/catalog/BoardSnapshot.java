@@ -0,0 +1,153 @@
+package org.example.demo.board.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.example.demo.board.dto.BoardItem;
+
+/**
+ * Immutable, versioned copy of the {@code boards} table ordered by {@code boardId}.
+ * <p>
+ * Items are shared between requests and must be treated as read-only. A new snapshot is
+ * built on every refresh and published atomically by {@link BoardCatalog}.
+ */
+public final class BoardSnapshot {
+
+    private final long version;
+    private final long fingerprint;
+    private final BoardItem[] items;
+    private final String[] lowerNames;
+    private final BoardNameIndex nameIndex;
+
+    private BoardSnapshot(long version, BoardItem[] items) {
+        this.version = version;
+        this.items = items;
+        this.lowerNames = new String[items.length];
+        for (int i = 0; i < items.length; i++) {
+            lowerNames[i] = items[i].getName().toLowerCase(Locale.ROOT);
+        }
+        this.nameIndex = BoardNameIndex.build(lowerNames);
+        this.fingerprint = fingerprint(items);
+    }
+
+    public static BoardSnapshot of(long version, List<BoardItem> boards) {
+        BoardItem[] sorted = boards.toArray(new BoardItem[0]);
+        Arrays.sort(sorted, Comparator.comparing(BoardItem::getBoardId));
+        return new BoardSnapshot(version, sorted);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of every row. Unlike {@link #getVersion()}, which is a per-node
+     * counter, equal content yields an equal fingerprint on every node, so it can back ETags.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Returns one page of boards, optionally filtered by a case-insensitive substring of the
+     * name (same semantics as {@code findByNameContainingIgnoreCase}).
+     *
+     * @param keyword trimmed keyword, or null for all boards
+     */
+    public Page page(int offset, int limit, String keyword) {
+        if (keyword == null) {
+            int from = Math.min(offset, items.length);
+            int to = Math.min(from + limit, items.length);
+            List<BoardItem> slice = from == to
+                    ? Collections.emptyList()
+                    : Collections.unmodifiableList(Arrays.asList(items).subList(from, to));
+            return new Page(slice, items.length);
+        }
+
+        // n-gram candidates are a superset of the matches; verify each one, count every match,
+        // keep only the requested window
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        int[] candidates = nameIndex.candidates(needle);
+        List<BoardItem> window = new ArrayList<>(Math.min(limit, candidates.length));
+        int matches = 0;
+        for (int i : candidates) {
+            if (lowerNames[i].contains(needle)) {
+                if (matches >= offset && window.size() < limit) {
+                    window.add(items[i]);
+                }
+                matches++;
+            }
+        }
+        return new Page(window, matches);
+    }
+
+    /** True when both snapshots hold the same rows, ignoring version. */
+    public boolean sameContent(BoardSnapshot other) {
+        if (other == null || other.items.length != items.length) {
+            return false;
+        }
+        for (int i = 0; i < items.length; i++) {
+            BoardItem a = items[i];
+            BoardItem b = other.items[i];
+            if (!Objects.equals(a.getBoardId(), b.getBoardId())
+                    || !Objects.equals(a.getName(), b.getName())
+                    || !Objects.equals(a.getDescription(), b.getDescription())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long fingerprint(BoardItem[] items) {
+        long h = 0xcbf29ce484222325L;
+        for (BoardItem item : items) {
+            h = mix(h, item.getBoardId());
+            h = mix(h, item.getName());
+            h = mix(h, item.getDescription());
+        }
+        return h;
+    }
+
+    private static long mix(long h, long value) {
+        for (int i = 0; i < 8; i++) {
+            h = (h ^ ((value >>> (i * 8)) & 0xff)) * 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static long mix(long h, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        // length terminator so ("ab", "c") and ("a", "bc") differ
+        return mix(h, value.length());
+    }
+
+    public static final class Page {
+
+        private final List<BoardItem> items;
+        private final long total;
+
+        Page(List<BoardItem> items, long total) {
+            this.items = items;
+            this.total = total;
+        }
+
+        public List<BoardItem> getItems() {
+            return items;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.demo.board.catalog;
+
+import org.example.demo.board.dto.BoardItem;
+import org.example.demo.board.entity.Board;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener on {@link Board} that keeps {@link BoardCatalog} (and its name index)
+ * in sync with local writes. The refresh is requested once the surrounding transaction commits,
+ * so rolled-back writes never become visible and a batch of writes triggers a single reload.
+ */
+@Component
+public class BoardWriteListener {
+
+    // resolved lazily: Hibernate builds listeners while the repository below is still being created
+    private final ObjectProvider<BoardCatalog> boardCatalog;
+    private final BoardNameSuggester suggester;
+
+    public BoardWriteListener(ObjectProvider<BoardCatalog> boardCatalog, BoardNameSuggester suggester) {
+        this.boardCatalog = boardCatalog;
+        this.suggester = suggester;
+    }
+
+    @PostPersist
+    void onCreate(Board board) {
+        // new names are suggestible immediately; the full reload that follows only confirms them
+        BoardItem item = new BoardItem(board.getBoardId(), board.getName(), board.getDescription());
+        afterCommit(() -> {
+            suggester.add(item);
+            boardCatalog.getObject().requestRefresh();
+        });
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onChange(Board board) {
+        afterCommit(() -> boardCatalog.getObject().requestRefresh());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
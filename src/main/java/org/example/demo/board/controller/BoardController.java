@@ -1,34 +1,197 @@
 package org.example.demo.board.controller;
 
-import org.example.demo.board.dto.ListBoardsResponse;
+import java.time.Duration;
+import java.util.Locale;
+
+import org.example.demo.board.dto.SuggestBoardsResponse;
 import org.example.demo.board.service.BoardService;
+import org.example.demo.board.service.BoardTotalMode;
 import org.example.demo.user.exception.ValidationFailedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardResponseCache responseCache;
+    private final String cacheControl;
 
-    public BoardController(BoardService boardService) {
+    public BoardController(
+            BoardService boardService,
+            BoardResponseCache responseCache,
+            @Value("${app.boards.cache.max-age-seconds:0}") long maxAgeSeconds
+    ) {
         this.boardService = boardService;
+        this.responseCache = responseCache;
+        // max-age=0 by default: clients always revalidate, which costs a 304 with no body
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .cachePublic()
+                .mustRevalidate()
+                .getHeaderValue();
     }
 
+    /**
+     * Returns a {@link org.example.demo.board.dto.ListBoardsResponse} as pre-serialized JSON
+     * bytes from {@link BoardResponseCache}.
+     */
     @GetMapping("/boards")
-    public ResponseEntity<ListBoardsResponse> listBoards(
+    public ResponseEntity<byte[]> listBoards(
             @RequestParam(name = "page", defaultValue = "1") int page,
             @RequestParam(name = "pageSize", defaultValue = "20") int pageSize,
-            @RequestParam(name = "keyword", required = false) String keyword
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "totalMode", required = false) String totalMode,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
         // parameter validation at controller boundary so service may not be invoked on invalid input
         if (page < 1) {
             throw new ValidationFailedException("PAGE_INVALID");
         }
+        validatePageSizeAndKeyword(pageSize, keyword);
+        BoardTotalMode mode = totalMode == null || totalMode.isBlank() ? null : BoardTotalMode.parse(totalMode);
+
+        String etag = boardService.catalogETag();
+        if (isNotModified(etag, acceptEncoding, webRequest, response)) {
+            return null;
+        }
+
+        String key = "p|" + page + "|" + pageSize + "|" + mode + "|" + cacheKeyword(keyword);
+        BoardResponseCache.Entry entry = responseCache.get(etag, key,
+                () -> boardService.listBoards(page, pageSize, keyword, mode));
+        return write(entry, etag, acceptEncoding);
+    }
+
+    /**
+     * Cursor (keyset) mode, selected whenever a {@code cursor} parameter is present.
+     * An empty cursor requests the first page.
+     */
+    @GetMapping(value = "/boards", params = "cursor")
+    public ResponseEntity<byte[]> listBoardsByCursor(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "pageSize", defaultValue = "20") int pageSize,
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest,
+            HttpServletResponse response
+    ) {
+        validatePageSizeAndKeyword(pageSize, keyword);
+
+        String etag = boardService.catalogETag();
+        if (isNotModified(etag, acceptEncoding, webRequest, response)) {
+            return null;
+        }
+
+        String key = "c|" + cursor.trim() + "|" + pageSize + "|" + cacheKeyword(keyword);
+        BoardResponseCache.Entry entry = responseCache.get(etag, key,
+                () -> boardService.listBoardsByCursor(cursor, pageSize, keyword));
+        return write(entry, etag, acceptEncoding);
+    }
+
+    @GetMapping("/boards/suggest")
+    public ResponseEntity<SuggestBoardsResponse> suggest(
+            @RequestParam(name = "prefix", required = false) String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        SuggestBoardsResponse res = boardService.suggest(prefix, limit);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * Sets {@code Cache-Control} and answers an {@code If-None-Match} that matches the catalog
+     * version with 304 before any query runs or any JSON is written. Each content-coding has its
+     * own validator ({@link #gzipETag}), and the gzip one only counts when the client still
+     * accepts gzip, so a 304 never pairs a client with a body in the wrong coding. {@code Vary}
+     * goes on both answers, so shared caches keep the gzip and identity bodies apart.
+     */
+    private boolean isNotModified(String etag, String acceptEncoding, WebRequest webRequest,
+                                  HttpServletResponse response) {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (etag == null) {
+            return false;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String matched = matches(ifNoneMatch, etag) ? etag
+                : acceptsGzip(acceptEncoding) && matches(ifNoneMatch, gzipETag(etag)) ? gzipETag(etag)
+                : null;
+        if (matched == null) {
+            return false;
+        }
+        response.setHeader(HttpHeaders.ETAG, matched);
+        response.setStatus(HttpStatus.NOT_MODIFIED.value());
+        return true;
+    }
+
+    // weak comparison, as If-None-Match requires
+    private static boolean matches(String ifNoneMatch, String etag) {
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "1f-00" -> "1f-00-gz"
+    static String gzipETag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    private ResponseEntity<byte[]> write(BoardResponseCache.Entry entry, String etag, String acceptEncoding) {
+        // Vary and Cache-Control are already set by isNotModified
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (entry.getGzip() != null && acceptsGzip(acceptEncoding)) {
+            if (etag != null) {
+                ok.eTag(gzipETag(etag));
+            }
+            return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.getGzip());
+        }
+        if (etag != null) {
+            ok.eTag(etag);
+        }
+        return ok.body(entry.getJson());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                // "gzip;q=0" explicitly refuses gzip
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // keyword matching is trimmed and case-insensitive, so those variants share one entry
+    private static String cacheKeyword(String keyword) {
+        return keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void validatePageSizeAndKeyword(int pageSize, String keyword) {
         if (pageSize < 1 || pageSize > 100) {
             throw new ValidationFailedException("PAGE_SIZE_INVALID");
         }
@@ -38,8 +201,5 @@ public class BoardController {
                 throw new ValidationFailedException("KEYWORD_INVALID");
             }
         }
-
-        ListBoardsResponse res = boardService.listBoards(page, pageSize, keyword);
-        return ResponseEntity.ok(res);
     }
 }
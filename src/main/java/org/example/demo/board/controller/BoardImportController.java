@@ -0,0 +1,42 @@
+package org.example.demo.board.controller;
+
+import java.io.IOException;
+
+import org.example.demo.board.dto.ImportBoardsResponse;
+import org.example.demo.board.service.BoardImportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Admin bulk import. The request body is read straight from the servlet stream (no
+ * {@code @RequestBody}), so large uploads are parsed and written as they arrive.
+ */
+@RestController
+@RequestMapping("/admin/boards")
+public class BoardImportController {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final BoardImportService boardImportService;
+
+    public BoardImportController(BoardImportService boardImportService) {
+        this.boardImportService = boardImportService;
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportBoardsResponse> importJson(HttpServletRequest request) throws IOException {
+        ImportBoardsResponse res = boardImportService.importJson(request.getInputStream());
+        return ResponseEntity.ok(res);
+    }
+
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ImportBoardsResponse> importCsv(HttpServletRequest request) throws IOException {
+        ImportBoardsResponse res = boardImportService.importCsv(request.getInputStream());
+        return ResponseEntity.ok(res);
+    }
+}
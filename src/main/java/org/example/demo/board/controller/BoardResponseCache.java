@@ -0,0 +1,159 @@
+package org.example.demo.board.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.example.demo.board.service.BoardService;
+import org.example.demo.common.exception.InternalErrorException;
+import org.example.demo.common.metrics.ServerTiming;
+import org.example.demo.common.metrics.TimedJacksonHttpMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Bounded cache of serialized {@code GET /boards} bodies (JSON plus a precompressed gzip copy)
+ * keyed by normalized query.
+ * <p>
+ * Entries belong to a generation tagged with the catalog ETag. The first request that sees a
+ * new ETag starts a fresh generation, which drops everything cached for the old catalog at once.
+ * Only the catalog's current ETag may do that: a request that read its ETag just before a
+ * refresh is served uncached rather than swapping the newer generation back out.
+ * Within a generation entries are evicted least-recently-used once their combined size exceeds
+ * {@code app.boards.response-cache.max-bytes}.
+ */
+@Component
+public class BoardResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final BoardService boardService;
+    private final long maxBytes;
+    private final int gzipMinBytes;
+    private final Meter.MeterProvider<Timer> serializationTimers;
+    private volatile Generation generation = new Generation(null);
+
+    public BoardResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            BoardService boardService,
+            @Value("${app.boards.response-cache.max-bytes:8388608}") long maxBytes,
+            @Value("${app.boards.response-cache.gzip-min-bytes:512}") int gzipMinBytes
+    ) {
+        this.objectMapper = objectMapper;
+        this.boardService = boardService;
+        this.maxBytes = maxBytes;
+        this.gzipMinBytes = gzipMinBytes;
+        this.serializationTimers = TimedJacksonHttpMessageConverter.timers(meterRegistry);
+    }
+
+    /**
+     * Returns the cached body for {@code key}, or serializes {@code loader}'s result and caches it.
+     * Nothing is cached when {@code etag} is null (no catalog version to invalidate by).
+     */
+    public Entry get(String etag, String key, Supplier<?> loader) {
+        if (etag == null || maxBytes <= 0) {
+            return serialize(loader.get());
+        }
+        Generation gen = generation;
+        if (!etag.equals(gen.etag)) {
+            if (!etag.equals(boardService.catalogETag())) {
+                return serialize(loader.get());
+            }
+            gen = new Generation(etag);
+            generation = gen;
+        }
+        Entry cached = gen.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Entry entry = serialize(loader.get());
+        gen.put(key, entry);
+        return entry;
+    }
+
+    private Entry serialize(Object body) {
+        try {
+            long start = System.nanoTime();
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            long nanos = System.nanoTime() - start;
+            serializationTimers.withTags("type", body.getClass().getSimpleName()).record(nanos, TimeUnit.NANOSECONDS);
+            ServerTiming.add(ServerTiming.Stage.SER, nanos);
+            return new Entry(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (IOException ex) {
+            throw new InternalErrorException();
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    public static final class Entry {
+
+        private final byte[] json;
+        private final byte[] gzip;
+
+        Entry(byte[] json, byte[] gzip) {
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        /** Precompressed body, or null when the JSON is too small to be worth compressing. */
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        long size() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    private final class Generation {
+
+        private final String etag;
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+        private long bytes;
+
+        Generation(String etag) {
+            this.etag = etag;
+        }
+
+        synchronized Entry get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(String key, Entry entry) {
+            if (entry.size() > maxBytes) {
+                return;
+            }
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                bytes -= previous.size();
+            }
+            bytes += entry.size();
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().size();
+                eldest.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.demo.board.dto;
+
+/**
+ * One rejected row of a bulk import. {@code row} is 1-based in input order: the array index
+ * for JSON, the data line (header excluded) for CSV.
+ */
+public class ImportBoardsError {
+
+    private int row;
+    private String name;
+    private String code;
+
+    public ImportBoardsError() {
+    }
+
+    public ImportBoardsError(int row, String name, String code) {
+        this.row = row;
+        this.name = name;
+        this.code = code;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.demo.board.dto;
+
+import java.util.List;
+
+public class ImportBoardsResponse {
+
+    private int received;
+    private int imported;
+    private int failed;
+    private List<ImportBoardsError> errors;
+
+    public ImportBoardsResponse() {
+    }
+
+    public ImportBoardsResponse(int received, int imported, int failed, List<ImportBoardsError> errors) {
+        this.received = received;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ImportBoardsError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportBoardsError> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.demo.board.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class ListBoardsCursorResponse {
+
+    @Min(1)
+    private int pageSize;
+
+    /** Opaque cursor for the next page; null when there are no more rows. */
+    private String nextCursor;
+
+    @NotNull
+    @Valid
+    private List<BoardItem> items;
+
+    public ListBoardsCursorResponse() {
+    }
+
+    public ListBoardsCursorResponse(int pageSize, String nextCursor, List<BoardItem> items) {
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.items = items;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public List<BoardItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BoardItem> items) {
+        this.items = items;
+    }
+}
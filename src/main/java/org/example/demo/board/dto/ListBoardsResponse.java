@@ -2,6 +2,8 @@ package org.example.demo.board.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -14,8 +16,18 @@ public class ListBoardsResponse {
     @Min(1)
     private int pageSize;
 
+    /** Exact or estimated row count; omitted in Slice mode (see {@link #hasNext}). */
     @Min(0)
-    private long total;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+
+    /** True when {@link #total} comes from the cached estimate rather than COUNT(*). */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean totalEstimated;
+
+    /** Only set in Slice mode, where no exact total is computed. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
 
     @NotNull
     @Valid
@@ -31,6 +43,15 @@ public class ListBoardsResponse {
         this.items = items;
     }
 
+    public ListBoardsResponse(int page, int pageSize, Long total, Boolean totalEstimated, Boolean hasNext, List<BoardItem> items) {
+        this.page = page;
+        this.pageSize = pageSize;
+        this.total = total;
+        this.totalEstimated = totalEstimated;
+        this.hasNext = hasNext;
+        this.items = items;
+    }
+
     public int getPage() {
         return page;
     }
@@ -47,14 +68,30 @@ public class ListBoardsResponse {
         this.pageSize = pageSize;
     }
 
-    public long getTotal() {
+    public Long getTotal() {
         return total;
     }
 
-    public void setTotal(long total) {
+    public void setTotal(Long total) {
         this.total = total;
     }
 
+    public Boolean getTotalEstimated() {
+        return totalEstimated;
+    }
+
+    public void setTotalEstimated(Boolean totalEstimated) {
+        this.totalEstimated = totalEstimated;
+    }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(Boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
     public List<BoardItem> getItems() {
         return items;
     }
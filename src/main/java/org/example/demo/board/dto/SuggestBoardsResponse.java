@@ -0,0 +1,43 @@
+package org.example.demo.board.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class SuggestBoardsResponse {
+
+    @NotBlank
+    @Size(max = 50)
+    private String prefix;
+
+    @NotNull
+    @Valid
+    private List<BoardItem> items;
+
+    public SuggestBoardsResponse() {
+    }
+
+    public SuggestBoardsResponse(String prefix, List<BoardItem> items) {
+        this.prefix = prefix;
+        this.items = items;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public List<BoardItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BoardItem> items) {
+        this.items = items;
+    }
+}
@@ -2,17 +2,22 @@ package org.example.demo.board.entity;
 
 import java.time.Instant;
 
+import org.example.demo.board.catalog.BoardWriteListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
 @Entity
+@EntityListeners(BoardWriteListener.class)
 @Table(
         name = "boards",
         uniqueConstraints = {
@@ -23,8 +28,15 @@ import jakarta.persistence.UniqueConstraint;
         }
 )
 public class Board {
+
+    /** Ids reserved per round trip to {@code board_id_seq}; must match the table's increment. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // pooled block allocator instead of IDENTITY, so Hibernate can batch inserts. MySQL has no
+    // sequences, so Hibernate emulates this one with the single-row table board_id_seq.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_id_seq")
+    @SequenceGenerator(name = "board_id_seq", sequenceName = "board_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "board_id", nullable = false, updatable = false)
     private Long boardId;
 
@@ -1,16 +1,88 @@
 package org.example.demo.board.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.example.demo.board.dto.BoardItem;
 import org.example.demo.board.entity.Board;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+/**
+ * Listing queries select {@code board_id, name, description} straight into {@link BoardItem}
+ * (JPQL constructor expressions), so no managed {@link Board} entities are hydrated.
+ * Keyword queries take a lower-cased LIKE pattern whose wildcards are escaped with {@code '!'}.
+ */
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
-    Page<Board> findByNameContainingIgnoreCase(String keyword, Pageable pageable);
+    @Query(
+            value = "select new org.example.demo.board.dto.BoardItem(b.boardId, b.name, b.description) from Board b order by b.boardId",
+            countQuery = "select count(b) from Board b"
+    )
+    Page<BoardItem> findItems(Pageable pageable);
+
+    @Query(
+            value = "select new org.example.demo.board.dto.BoardItem(b.boardId, b.name, b.description) from Board b"
+                    + " where lower(b.name) like :pattern escape '!' order by b.boardId",
+            countQuery = "select count(b) from Board b where lower(b.name) like :pattern escape '!'"
+    )
+    Page<BoardItem> searchItemsByName(@Param("pattern") String pattern, Pageable pageable);
+
+    // Slice variants: LIMIT pageSize+1 to derive hasNext, no companion COUNT(*) query
+    @Query("select new org.example.demo.board.dto.BoardItem(b.boardId, b.name, b.description) from Board b order by b.boardId")
+    Slice<BoardItem> findItemSlice(Pageable pageable);
+
+    @Query("select new org.example.demo.board.dto.BoardItem(b.boardId, b.name, b.description) from Board b"
+            + " where lower(b.name) like :pattern escape '!' order by b.boardId")
+    Slice<BoardItem> searchItemSliceByName(@Param("pattern") String pattern, Pageable pageable);
+
+    // Keyset (seek) queries for cursor mode: WHERE key > :after ORDER BY key LIMIT n, no OFFSET
+    @Query("select new org.example.demo.board.dto.BoardItem(b.boardId, b.name, b.description) from Board b"
+            + " where b.boardId > :afterId order by b.boardId asc")
+    List<BoardItem> findItemsAfterId(@Param("afterId") long afterId, Pageable limit);
+
+    @Query("select new org.example.demo.board.dto.BoardItem(b.boardId, b.name, b.description) from Board b"
+            + " where lower(b.name) like :pattern escape '!' and b.name > :afterName order by b.name asc")
+    List<BoardItem> searchItemsByNameAfter(@Param("pattern") String pattern, @Param("afterName") String afterName, Pageable limit);
+
+    // autocomplete fallback when the catalog is not loaded; a left-anchored LIKE can use idx_boards_name
+    @Query("select new org.example.demo.board.dto.BoardItem(b.boardId, b.name, b.description) from Board b"
+            + " where b.name like :prefixPattern escape '!' order by b.name")
+    List<BoardItem> findItemsByNamePrefix(@Param("prefixPattern") String prefixPattern, Pageable limit);
+
+    // bulk import pre-check against uq_boards_name; IN compares with the column's collation
+    @Query("select b.name from Board b where b.name in :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    // full table for the in-memory catalog
+    @Query("select new org.example.demo.board.dto.BoardItem(b.boardId, b.name, b.description) from Board b order by b.boardId")
+    List<BoardItem> findAllItems();
+
+    // FULLTEXT (ngram parser) search over name + description; :phrase is a quoted BOOLEAN MODE phrase.
+    // Native queries cannot use constructor expressions; the read-only transaction skips snapshots instead.
+    @Query(
+            value = "SELECT * FROM boards WHERE MATCH (name, description) AGAINST (:phrase IN BOOLEAN MODE) ORDER BY board_id",
+            countQuery = "SELECT COUNT(*) FROM boards WHERE MATCH (name, description) AGAINST (:phrase IN BOOLEAN MODE)",
+            nativeQuery = true
+    )
+    Page<Board> searchFullText(@Param("phrase") String phrase, Pageable pageable);
+
+    @Query(
+            value = "SELECT * FROM boards WHERE MATCH (name, description) AGAINST (:phrase IN BOOLEAN MODE) ORDER BY board_id",
+            nativeQuery = true
+    )
+    Slice<Board> searchFullTextSlice(@Param("phrase") String phrase, Pageable pageable);
+
+    // fallback for keywords shorter than the ngram token size, which the FULLTEXT index cannot see;
+    // derived queries take their order from the Pageable, so callers pass Sort.by("boardId")
+    Page<Board> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name, String description, Pageable pageable);
 
-    // findAll(Pageable pageable) is inherited from JpaRepository
+    Slice<Board> findSliceByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name, String description, Pageable pageable);
 
 }
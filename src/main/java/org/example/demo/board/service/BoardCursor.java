@@ -0,0 +1,84 @@
+package org.example.demo.board.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.example.demo.user.exception.ValidationFailedException;
+
+/**
+ * Opaque keyset cursor for {@code GET /boards?cursor=...}.
+ * <p>
+ * Unfiltered listings seek on {@code board_id}; keyword listings seek on {@code name}
+ * (unique via {@code uq_boards_name}). The wire form is URL-safe Base64 of {@code "i:<id>"}
+ * or {@code "n:<name>"} so clients treat it as a token rather than a page number.
+ */
+final class BoardCursor {
+
+    private static final String ID_PREFIX = "i:";
+    private static final String NAME_PREFIX = "n:";
+
+    private final Long afterId;
+    private final String afterName;
+
+    private BoardCursor(Long afterId, String afterName) {
+        this.afterId = afterId;
+        this.afterName = afterName;
+    }
+
+    static BoardCursor afterId(long boardId) {
+        return new BoardCursor(boardId, null);
+    }
+
+    static BoardCursor afterName(String name) {
+        return new BoardCursor(null, name);
+    }
+
+    /**
+     * Decodes a cursor; blank input means "first page" and yields null.
+     *
+     * @throws ValidationFailedException with code {@code CURSOR_INVALID} on malformed input
+     */
+    static BoardCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationFailedException("CURSOR_INVALID");
+        }
+        if (raw.startsWith(ID_PREFIX)) {
+            try {
+                long id = Long.parseLong(raw.substring(ID_PREFIX.length()));
+                if (id < 0) {
+                    throw new ValidationFailedException("CURSOR_INVALID");
+                }
+                return afterId(id);
+            } catch (NumberFormatException ex) {
+                throw new ValidationFailedException("CURSOR_INVALID");
+            }
+        }
+        if (raw.startsWith(NAME_PREFIX) && raw.length() > NAME_PREFIX.length()) {
+            return afterName(raw.substring(NAME_PREFIX.length()));
+        }
+        throw new ValidationFailedException("CURSOR_INVALID");
+    }
+
+    String encode() {
+        String raw = afterId != null ? ID_PREFIX + afterId : NAME_PREFIX + afterName;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    boolean isIdCursor() {
+        return afterId != null;
+    }
+
+    Long getAfterId() {
+        return afterId;
+    }
+
+    String getAfterName() {
+        return afterName;
+    }
+}
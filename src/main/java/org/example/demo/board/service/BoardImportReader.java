@@ -0,0 +1,210 @@
+package org.example.demo.board.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Pull parser over a bulk-import upload: yields one row at a time, so an upload of any size is
+ * never materialized in memory. Malformed input surfaces as an {@link IOException}.
+ */
+abstract class BoardImportReader implements Closeable {
+
+    static final class Row {
+        private final int row;
+        private final String name;
+        private final String description;
+
+        Row(int row, String name, String description) {
+            this.row = row;
+            this.name = name;
+            this.description = description;
+        }
+
+        int getRow() {
+            return row;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getDescription() {
+            return description;
+        }
+    }
+
+    /** @return the next row, or null at the end of the input */
+    abstract Row next() throws IOException;
+
+    /** A JSON array of {@code {"name": ..., "description": ...}} objects; other fields are ignored. */
+    static BoardImportReader json(JsonFactory jsonFactory, InputStream in) throws IOException {
+        return new JsonReader(jsonFactory.createParser(in));
+    }
+
+    /** RFC 4180 CSV, UTF-8, with a header line naming the {@code name} and {@code description} columns. */
+    static BoardImportReader csv(InputStream in) {
+        return new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    private static final class JsonReader extends BoardImportReader {
+        private final JsonParser parser;
+        private boolean started;
+        private int row;
+
+        JsonReader(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (!started) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException("expected a JSON array");
+                }
+                started = true;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("expected a JSON object at element " + (row + 1));
+            }
+            row++;
+            String name = null;
+            String description = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("name".equals(field)) {
+                    name = parser.getValueAsString();
+                } else if ("description".equals(field)) {
+                    description = parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
+            return new Row(row, name, description);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class CsvReader extends BoardImportReader {
+        private final BufferedReader in;
+        private int nameColumn = -1;
+        private int descriptionColumn = -1;
+        private int row;
+        private boolean eof;
+
+        CsvReader(BufferedReader in) {
+            this.in = in;
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (nameColumn < 0) {
+                readHeader();
+            }
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            row++;
+            return new Row(row, field(fields, nameColumn), field(fields, descriptionColumn));
+        }
+
+        private void readHeader() throws IOException {
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IOException("missing CSV header");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+                if (i == 0 && column.startsWith("\uFEFF")) {
+                    column = column.substring(1);
+                }
+                if (column.equals("name")) {
+                    nameColumn = i;
+                } else if (column.equals("description")) {
+                    descriptionColumn = i;
+                }
+            }
+            if (nameColumn < 0 || descriptionColumn < 0) {
+                throw new IOException("CSV header must name the name and description columns");
+            }
+        }
+
+        private static String field(List<String> fields, int column) {
+            return column < fields.size() ? fields.get(column) : null;
+        }
+
+        /** @return the fields of the next non-blank record, or null at the end of the input */
+        private List<String> readRecord() throws IOException {
+            while (!eof) {
+                List<String> fields = new ArrayList<>();
+                StringBuilder field = new StringBuilder();
+                boolean quoted = false;
+                boolean blank = true;
+                while (true) {
+                    int c = in.read();
+                    if (c == -1) {
+                        if (quoted) {
+                            throw new IOException("unterminated quoted CSV field");
+                        }
+                        eof = true;
+                        break;
+                    }
+                    if (quoted) {
+                        if (c != '"') {
+                            field.append((char) c);
+                            continue;
+                        }
+                        in.mark(1);
+                        if (in.read() == '"') {
+                            field.append('"');
+                        } else {
+                            in.reset();
+                            quoted = false;
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                        blank = false;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                        blank = false;
+                    } else if (c == '\n') {
+                        break;
+                    } else if (c != '\r') {
+                        field.append((char) c);
+                        blank = false;
+                    }
+                }
+                if (!blank) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
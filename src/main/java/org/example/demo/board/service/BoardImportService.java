@@ -0,0 +1,181 @@
+package org.example.demo.board.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.example.demo.board.dto.ImportBoardsError;
+import org.example.demo.board.dto.ImportBoardsResponse;
+import org.example.demo.board.entity.Board;
+import org.example.demo.board.repository.BoardRepository;
+import org.example.demo.common.exception.InternalErrorException;
+import org.example.demo.user.exception.ValidationFailedException;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Bulk board import. Rows are streamed from the upload, validated, and inserted in chunks of
+ * {@code app.boards.import.batch-size}; each chunk is one transaction and one JDBC batch (ids
+ * come from the pooled allocator on {@link Board}, so nothing forces a round trip per row).
+ * Rows that break {@code uq_boards_name} are reported and skipped, never abort the import.
+ */
+@Service
+public class BoardImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardImportService.class);
+
+    private final BoardRepository boardRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate tx;
+    private final JsonFactory jsonFactory;
+    private final int batchSize;
+
+    public BoardImportService(
+            BoardRepository boardRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${app.boards.import.batch-size:500}") int batchSize
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.boards.import.batch-size must be positive");
+        }
+        this.boardRepository = boardRepository;
+        this.entityManager = entityManager;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.jsonFactory = objectMapper.getFactory();
+        this.batchSize = batchSize;
+    }
+
+    public ImportBoardsResponse importJson(InputStream in) {
+        try (BoardImportReader reader = BoardImportReader.json(jsonFactory, in)) {
+            return importRows(reader);
+        } catch (IOException e) {
+            throw new ValidationFailedException("IMPORT_FORMAT_INVALID");
+        }
+    }
+
+    public ImportBoardsResponse importCsv(InputStream in) {
+        try (BoardImportReader reader = BoardImportReader.csv(in)) {
+            return importRows(reader);
+        } catch (IOException e) {
+            throw new ValidationFailedException("IMPORT_FORMAT_INVALID");
+        }
+    }
+
+    /**
+     * Malformed input ends the import with IMPORT_FORMAT_INVALID; chunks written before that
+     * point stay committed (re-running the fixed file reports them as NAME_ALREADY_EXISTS).
+     */
+    ImportBoardsResponse importRows(BoardImportReader reader) throws IOException {
+        List<ImportBoardsError> errors = new ArrayList<>();
+        // names taken earlier in this upload, case-folded like the column's collation
+        Set<String> seen = new HashSet<>();
+        List<BoardImportReader.Row> chunk = new ArrayList<>(batchSize);
+        int received = 0;
+        int imported = 0;
+
+        BoardImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            received++;
+            String name = row.getName() == null ? "" : row.getName().trim();
+            String description = row.getDescription() == null ? null : row.getDescription().trim();
+            if (name.isEmpty() || name.length() > 50) {
+                errors.add(new ImportBoardsError(row.getRow(), row.getName(), "NAME_INVALID"));
+            } else if (description == null || description.length() > 200) {
+                errors.add(new ImportBoardsError(row.getRow(), name, "DESCRIPTION_INVALID"));
+            } else if (!seen.add(foldName(name))) {
+                errors.add(new ImportBoardsError(row.getRow(), name, "NAME_DUPLICATED_IN_IMPORT"));
+            } else {
+                chunk.add(new BoardImportReader.Row(row.getRow(), name, description));
+                if (chunk.size() == batchSize) {
+                    imported += writeChunk(chunk, errors);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += writeChunk(chunk, errors);
+        }
+
+        log.info("board import: received={} imported={} failed={}", received, imported, errors.size());
+        return new ImportBoardsResponse(received, imported, errors.size(), errors);
+    }
+
+    /** @return the number of rows inserted */
+    private int writeChunk(List<BoardImportReader.Row> chunk, List<ImportBoardsError> errors) {
+        try {
+            List<String> names = new ArrayList<>(chunk.size());
+            for (BoardImportReader.Row r : chunk) {
+                names.add(r.getName());
+            }
+            Set<String> existing = new HashSet<>();
+            for (String name : boardRepository.findExistingNames(names)) {
+                existing.add(foldName(name));
+            }
+
+            List<BoardImportReader.Row> fresh = new ArrayList<>(chunk.size());
+            for (BoardImportReader.Row r : chunk) {
+                if (existing.contains(foldName(r.getName()))) {
+                    errors.add(new ImportBoardsError(r.getRow(), r.getName(), "NAME_ALREADY_EXISTS"));
+                } else {
+                    fresh.add(r);
+                }
+            }
+            if (fresh.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                tx.executeWithoutResult(status -> insert(fresh));
+                return fresh.size();
+            } catch (DataIntegrityViolationException e) {
+                // a concurrent writer took a name after the check above: redo this chunk row by
+                // row so only the conflicting rows are rejected
+                int imported = 0;
+                for (BoardImportReader.Row r : fresh) {
+                    try {
+                        tx.executeWithoutResult(status -> insert(List.of(r)));
+                        imported++;
+                    } catch (DataIntegrityViolationException conflict) {
+                        errors.add(new ImportBoardsError(r.getRow(), r.getName(), "NAME_ALREADY_EXISTS"));
+                    }
+                }
+                return imported;
+            }
+        } catch (DataAccessException e) {
+            throw new InternalErrorException();
+        }
+    }
+
+    private void insert(List<BoardImportReader.Row> rows) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        List<Board> boards = new ArrayList<>(rows.size());
+        for (BoardImportReader.Row r : rows) {
+            boards.add(new Board(r.getName(), r.getDescription()));
+        }
+        boardRepository.saveAll(boards);
+        // flush inside the transaction so a unique-key violation surfaces here, translated
+        boardRepository.flush();
+    }
+
+    private static String foldName(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.demo.board.service;
+
+/**
+ * Backend for keyword listings, selected by {@code app.boards.search.backend}.
+ * <ul>
+ *     <li>{@code SUBSTRING}: name contains keyword (RP-002); served by the in-memory catalog
+ *     index when loaded, otherwise by {@code LIKE '%kw%'}.</li>
+ *     <li>{@code FULLTEXT}: MySQL {@code MATCH ... AGAINST} on the ngram FULLTEXT index over
+ *     name and description (see {@code 002-boards-fulltext.yaml}).</li>
+ * </ul>
+ */
+public enum BoardSearchBackend {
+    SUBSTRING,
+    FULLTEXT
+}
@@ -1,61 +1,310 @@
 package org.example.demo.board.service;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.example.demo.board.catalog.BoardCatalog;
+import org.example.demo.board.catalog.BoardNameSuggester;
+import org.example.demo.board.catalog.BoardSnapshot;
 import org.example.demo.board.dto.BoardItem;
+import org.example.demo.board.dto.ListBoardsCursorResponse;
 import org.example.demo.board.dto.ListBoardsResponse;
+import org.example.demo.board.dto.SuggestBoardsResponse;
 import org.example.demo.board.entity.Board;
 import org.example.demo.board.repository.BoardRepository;
 import org.example.demo.common.exception.InternalErrorException;
+import org.example.demo.common.metrics.OperationTimer;
 import org.example.demo.user.exception.ValidationFailedException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Service
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final BoardTotalEstimator totalEstimator;
+    private final BoardCatalog boardCatalog;
+    private final BoardNameSuggester suggester;
+    private final TransactionTemplate readOnlyTx;
+    private final BoardTotalMode defaultTotalMode;
+    private final BoardSearchBackend searchBackend;
+    private final int ngramTokenSize;
+    private final OperationTimer listTimer;
 
-    public BoardService(BoardRepository boardRepository) {
+    public BoardService(
+            BoardRepository boardRepository,
+            BoardTotalEstimator totalEstimator,
+            BoardCatalog boardCatalog,
+            BoardNameSuggester suggester,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.boards.total-mode:EXACT}") BoardTotalMode defaultTotalMode,
+            @Value("${app.boards.search.backend:SUBSTRING}") BoardSearchBackend searchBackend,
+            @Value("${app.boards.search.ngram-token-size:2}") int ngramTokenSize
+    ) {
         this.boardRepository = boardRepository;
+        this.totalEstimator = totalEstimator;
+        this.boardCatalog = boardCatalog;
+        this.suggester = suggester;
+        // RP-002: ListBoards runs in a read-only transaction. Applied programmatically to the
+        // database paths only, so snapshot hits never borrow a connection.
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.defaultTotalMode = defaultTotalMode;
+        this.searchBackend = searchBackend;
+        this.ngramTokenSize = ngramTokenSize;
+        this.listTimer = new OperationTimer(meterRegistry, "board.list");
     }
 
     public ListBoardsResponse listBoards(int page, int pageSize, String keyword) {
+        return listBoards(page, pageSize, keyword, null);
+    }
+
+    /**
+     * @param totalMode how to fill {@code total}; null falls back to {@code app.boards.total-mode}
+     */
+    public ListBoardsResponse listBoards(int page, int pageSize, String keyword, BoardTotalMode totalMode) {
+        ListBoardsEvent event = new ListBoardsEvent();
+        event.begin();
+        ListBoardsResponse response = null;
+        try {
+            response = listTimer.record(() -> list(page, pageSize, keyword, totalMode));
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.keyword = keyword;
+                event.page = page;
+                event.pageSize = pageSize;
+                event.rows = response == null ? -1 : response.getItems().size();
+                event.commit();
+            }
+        }
+    }
+
+    private ListBoardsResponse list(int page, int pageSize, String keyword, BoardTotalMode totalMode) {
         if (page < 1) {
             throw new ValidationFailedException("PAGE_INVALID");
         }
-        if (pageSize < 1 || pageSize > 100) {
-            throw new ValidationFailedException("PAGE_SIZE_INVALID");
+        validatePageSize(pageSize);
+        String kw = normalizeKeyword(keyword);
+        BoardTotalMode mode = totalMode != null ? totalMode : defaultTotalMode;
+
+        if (kw != null && searchBackend == BoardSearchBackend.FULLTEXT) {
+            return inReadOnlyTx(() -> listByFullText(page, pageSize, kw, mode));
+        }
+
+        BoardSnapshot snapshot = boardCatalog.current();
+        if (snapshot != null) {
+            return listFromSnapshot(snapshot, page, pageSize, kw, mode);
+        }
+
+        return inReadOnlyTx(() -> listFromDatabase(page, pageSize, kw, mode));
+    }
+
+    private ListBoardsResponse listFromDatabase(int page, int pageSize, String kw, BoardTotalMode mode) {
+        PageRequest pr = PageRequest.of(page - 1, pageSize);
+        String pattern = kw == null ? null : likePattern(kw);
+        if (mode == BoardTotalMode.EXACT) {
+            Page<BoardItem> pageRes;
+            if (pattern != null) {
+                pageRes = boardRepository.searchItemsByName(pattern, pr);
+            } else {
+                pageRes = boardRepository.findItems(pr);
+            }
+            return new ListBoardsResponse(page, pageSize, pageRes.getTotalElements(), pageRes.getContent());
+        }
+
+        Slice<BoardItem> sliceRes;
+        if (pattern != null) {
+            sliceRes = boardRepository.searchItemSliceByName(pattern, pr);
+        } else {
+            sliceRes = boardRepository.findItemSlice(pr);
         }
-        String kw = null;
-        if (keyword != null) {
-            kw = keyword.trim();
-            if (kw.isBlank()) {
-                kw = null;
-            } else if (kw.length() > 50) {
-                throw new ValidationFailedException("KEYWORD_INVALID");
+        List<BoardItem> items = sliceRes.getContent();
+
+        Long total = null;
+        Boolean totalEstimated = null;
+        if (mode == BoardTotalMode.ESTIMATED && kw == null) {
+            long estimate = totalEstimator.estimate();
+            if (estimate != BoardTotalEstimator.UNKNOWN) {
+                // never report fewer rows than this page proves exist
+                total = Math.max(estimate, (long) (page - 1) * pageSize + items.size());
+                totalEstimated = true;
             }
         }
+        return new ListBoardsResponse(page, pageSize, total, totalEstimated, sliceRes.hasNext(), items);
+    }
 
-        try {
-            PageRequest pr = PageRequest.of(page - 1, pageSize);
-            Page<Board> pageRes;
+    /**
+     * Autocomplete: up to {@code limit} boards whose name starts with {@code prefix}, served from
+     * the in-memory trie while the catalog is loaded and from an indexed prefix query otherwise.
+     */
+    public SuggestBoardsResponse suggest(String prefix, int limit) {
+        String p = prefix == null ? "" : prefix.trim();
+        if (p.isEmpty() || p.length() > 50) {
+            throw new ValidationFailedException("PREFIX_INVALID");
+        }
+        if (limit < 1 || limit > 20) {
+            throw new ValidationFailedException("LIMIT_INVALID");
+        }
+
+        if (boardCatalog.current() != null) {
+            return new SuggestBoardsResponse(p, suggester.suggest(p, limit));
+        }
+        String prefixPattern = likePattern(p).substring(1);
+        return inReadOnlyTx(() -> new SuggestBoardsResponse(p,
+                boardRepository.findItemsByNamePrefix(prefixPattern, PageRequest.of(0, limit))));
+    }
+
+    /**
+     * Strong ETag for any {@code GET /boards} representation, derived from the catalog content
+     * and the server settings that shape the response; null when the catalog is not loaded.
+     * With the FULLTEXT backend keyword results come from MySQL, so they can be stale for at
+     * most one catalog refresh interval.
+     */
+    public String catalogETag() {
+        BoardSnapshot snapshot = boardCatalog.current();
+        if (snapshot == null) {
+            return null;
+        }
+        return "\"" + Long.toHexString(snapshot.getFingerprint())
+                + "-" + searchBackend.ordinal() + defaultTotalMode.ordinal() + "\"";
+    }
+
+    /**
+     * Serves a page from the in-memory catalog. The exact total is free here, so it is always
+     * returned; {@code hasNext} is added for callers that asked for a Slice-style response.
+     */
+    private ListBoardsResponse listFromSnapshot(BoardSnapshot snapshot, int page, int pageSize, String kw, BoardTotalMode mode) {
+        int offset = (int) Math.min((long) (page - 1) * pageSize, Integer.MAX_VALUE);
+        BoardSnapshot.Page res = snapshot.page(offset, pageSize, kw);
+        if (mode == BoardTotalMode.EXACT) {
+            return new ListBoardsResponse(page, pageSize, res.getTotal(), res.getItems());
+        }
+        boolean hasNext = (long) offset + res.getItems().size() < res.getTotal();
+        return new ListBoardsResponse(page, pageSize, res.getTotal(), null, hasNext, res.getItems());
+    }
+
+    /**
+     * Keyword search through the ngram FULLTEXT index, matching name or description. Keywords
+     * shorter than the ngram token size are not in the index and fall back to LIKE.
+     */
+    private ListBoardsResponse listByFullText(int page, int pageSize, String kw, BoardTotalMode mode) {
+        // the keyword becomes one quoted phrase, so BOOLEAN MODE operators inside it are literal
+        String stripped = kw.replace('"', ' ').trim();
+        String phrase = stripped.length() >= ngramTokenSize ? '"' + stripped + '"' : null;
+
+        if (phrase == null) {
+            // same order as the FULLTEXT queries, so pages stay stable across both paths
+            PageRequest byId = PageRequest.of(page - 1, pageSize, Sort.by("boardId"));
+            if (mode == BoardTotalMode.EXACT) {
+                Page<Board> pageRes = boardRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(kw, kw, byId);
+                return new ListBoardsResponse(page, pageSize, pageRes.getTotalElements(), toItems(pageRes.getContent()));
+            }
+            Slice<Board> sliceRes = boardRepository.findSliceByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(kw, kw, byId);
+            return new ListBoardsResponse(page, pageSize, null, null, sliceRes.hasNext(), toItems(sliceRes.getContent()));
+        }
+        PageRequest pr = PageRequest.of(page - 1, pageSize);
+        if (mode == BoardTotalMode.EXACT) {
+            Page<Board> pageRes = boardRepository.searchFullText(phrase, pr);
+            return new ListBoardsResponse(page, pageSize, pageRes.getTotalElements(), toItems(pageRes.getContent()));
+        }
+        Slice<Board> sliceRes = boardRepository.searchFullTextSlice(phrase, pr);
+        return new ListBoardsResponse(page, pageSize, null, null, sliceRes.hasNext(), toItems(sliceRes.getContent()));
+    }
+
+    /**
+     * Keyset pagination: seeks past the cursor instead of using OFFSET, so every page costs
+     * the same. Unfiltered listings are ordered by boardId, keyword listings by name.
+     */
+    public ListBoardsCursorResponse listBoardsByCursor(String cursor, int pageSize, String keyword) {
+        validatePageSize(pageSize);
+        String kw = normalizeKeyword(keyword);
+        BoardCursor after = BoardCursor.decode(cursor);
+        if (after != null && after.isIdCursor() != (kw == null)) {
+            // cursor was issued for the other listing mode
+            throw new ValidationFailedException("CURSOR_INVALID");
+        }
+
+        return inReadOnlyTx(() -> {
+            // fetch one extra row to know whether a next page exists without a COUNT(*)
+            PageRequest limit = PageRequest.of(0, pageSize + 1);
+            List<BoardItem> rows;
             if (kw != null) {
-                pageRes = boardRepository.findByNameContainingIgnoreCase(kw, pr);
+                String afterName = after == null ? "" : after.getAfterName();
+                rows = boardRepository.searchItemsByNameAfter(likePattern(kw), afterName, limit);
             } else {
-                pageRes = boardRepository.findAll(pr);
+                long afterId = after == null ? 0L : after.getAfterId();
+                rows = boardRepository.findItemsAfterId(afterId, limit);
             }
 
-            List<BoardItem> items = pageRes.getContent().stream()
-                    .map(b -> new BoardItem(b.getBoardId(), b.getName(), b.getDescription()))
-                    .collect(Collectors.toList());
+            boolean hasNext = rows.size() > pageSize;
+            List<BoardItem> items = hasNext ? rows.subList(0, pageSize) : rows;
 
-            return new ListBoardsResponse(page, pageSize, pageRes.getTotalElements(), items);
+            String nextCursor = null;
+            if (hasNext) {
+                BoardItem last = items.get(items.size() - 1);
+                nextCursor = (kw != null ? BoardCursor.afterName(last.getName()) : BoardCursor.afterId(last.getBoardId())).encode();
+            }
+            return new ListBoardsCursorResponse(pageSize, nextCursor, items);
+        });
+    }
+
+    private <T> T inReadOnlyTx(Supplier<T> query) {
+        try {
+            return readOnlyTx.execute(status -> query.get());
         } catch (DataAccessException ex) {
             throw new InternalErrorException();
         }
     }
+
+    private List<BoardItem> toItems(List<Board> boards) {
+        return boards.stream()
+                .map(b -> new BoardItem(b.getBoardId(), b.getName(), b.getDescription()))
+                .collect(Collectors.toList());
+    }
+
+    /** Lower-cased {@code %kw%} pattern with LIKE wildcards escaped by {@code '!'}. */
+    static String likePattern(String kw) {
+        StringBuilder sb = new StringBuilder(kw.length() + 4).append('%');
+        for (char c : kw.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c == '!' || c == '%' || c == '_') {
+                sb.append('!');
+            }
+            sb.append(c);
+        }
+        return sb.append('%').toString();
+    }
+
+    private void validatePageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > 100) {
+            throw new ValidationFailedException("PAGE_SIZE_INVALID");
+        }
+    }
+
+    private String normalizeKeyword(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String kw = keyword.trim();
+        if (kw.isBlank()) {
+            return null;
+        }
+        if (kw.length() > 50) {
+            throw new ValidationFailedException("KEYWORD_INVALID");
+        }
+        return kw;
+    }
 }
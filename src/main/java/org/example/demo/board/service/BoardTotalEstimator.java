@@ -0,0 +1,44 @@
+package org.example.demo.board.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.demo.board.repository.BoardRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background-refreshed row count of {@code boards}, used as the estimated total for
+ * unfiltered listings so the request path never runs {@code COUNT(*)}.
+ */
+@Component
+public class BoardTotalEstimator {
+
+    static final long UNKNOWN = -1L;
+
+    private static final Logger log = LoggerFactory.getLogger(BoardTotalEstimator.class);
+
+    private final BoardRepository boardRepository;
+    private final AtomicLong cachedTotal = new AtomicLong(UNKNOWN);
+
+    public BoardTotalEstimator(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.boards.total-refresh-ms:30000}")
+    public void refresh() {
+        try {
+            cachedTotal.set(boardRepository.count());
+        } catch (DataAccessException ex) {
+            // keep serving the last known value; the next tick retries
+            log.warn("Failed to refresh board total estimate", ex);
+        }
+    }
+
+    /** Returns the last refreshed count, or {@link #UNKNOWN} before the first refresh succeeds. */
+    public long estimate() {
+        return cachedTotal.get();
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.demo.board.service;
+
+import java.util.Locale;
+
+import org.example.demo.user.exception.ValidationFailedException;
+
+/**
+ * How {@code GET /boards} fills {@code total}.
+ * <ul>
+ *     <li>{@code EXACT}: runs {@code SELECT COUNT(*)} alongside the page query (RP-002 default).</li>
+ *     <li>{@code NONE}: Slice query only; {@code total} is omitted and {@code hasNext} is returned.</li>
+ *     <li>{@code ESTIMATED}: Slice query plus a cached row count for unfiltered listings
+ *     ({@code totalEstimated=true}); keyword listings behave like {@code NONE}.</li>
+ * </ul>
+ */
+public enum BoardTotalMode {
+    EXACT,
+    NONE,
+    ESTIMATED;
+
+    public static BoardTotalMode parse(String value) {
+        try {
+            return BoardTotalMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationFailedException("TOTAL_MODE_INVALID");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.demo.board.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/** One {@link BoardService#listBoards} call; its duration is the event's own. */
+@Name("org.example.demo.ListBoards")
+@Label("List Boards")
+@Category({"Demo", "Boards"})
+@Description("GET /boards page served from the catalog snapshot or the database")
+@StackTrace(false)
+@Threshold("1 ms")
+final class ListBoardsEvent extends jdk.jfr.Event {
+
+    @Label("Keyword")
+    String keyword;
+
+    @Label("Page")
+    int page;
+
+    @Label("Page Size")
+    int pageSize;
+
+    @Label("Rows")
+    @Description("Items returned; -1 when the call failed")
+    int rows;
+}
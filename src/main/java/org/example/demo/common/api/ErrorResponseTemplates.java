@@ -0,0 +1,110 @@
+package org.example.demo.common.api;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * JSON bodies in the {@link ErrorResponse} shape, rendered without Jackson. Everything before
+ * {@code path} is fixed per error code, so it is serialized once and reused; a rejection then
+ * costs one string append and one byte array. The output is what Jackson writes for the
+ * equivalent {@code ErrorResponse}.
+ */
+public final class ErrorResponseTemplates {
+
+    // codes are compile-time constants or come from ValidationCodes, so this stays small
+    private static final int MAX_TEMPLATES = 1024;
+    private static final ConcurrentHashMap<String, Template> BY_CODE = new ConcurrentHashMap<>();
+
+    private ErrorResponseTemplates() {
+    }
+
+    public static byte[] render(HttpStatus status, String message, String code, String path, Instant timestamp) {
+        String prefix = prefix(status, message, code);
+        StringBuilder sb = new StringBuilder(prefix.length() + (path == null ? 4 : path.length()) + 48);
+        sb.append(prefix);
+        appendString(sb, path);
+        sb.append(",\"timestamp\":");
+        if (timestamp == null) {
+            sb.append("null");
+        } else {
+            sb.append('"');
+            DateTimeFormatter.ISO_INSTANT.formatTo(timestamp, sb);
+            sb.append('"');
+        }
+        sb.append('}');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String prefix(HttpStatus status, String message, String code) {
+        if (code == null) {
+            return buildPrefix(status, message, null);
+        }
+        Template t = BY_CODE.get(code);
+        if (t != null && t.status == status && Objects.equals(t.message, message)) {
+            return t.prefix;
+        }
+        String prefix = buildPrefix(status, message, code);
+        if (t == null && BY_CODE.size() < MAX_TEMPLATES) {
+            BY_CODE.putIfAbsent(code, new Template(status, message, prefix));
+        }
+        return prefix;
+    }
+
+    // {"status":400,"error":"Bad Request","message":"VALIDATION_FAILED","code":"PASSWORD_REQUIRED","path":
+    private static String buildPrefix(HttpStatus status, String message, String code) {
+        StringBuilder sb = new StringBuilder(96);
+        sb.append("{\"status\":").append(status.value()).append(",\"error\":");
+        appendString(sb, status.getReasonPhrase());
+        sb.append(",\"message\":");
+        appendString(sb, message);
+        sb.append(",\"code\":");
+        appendString(sb, code);
+        sb.append(",\"path\":");
+        return sb.toString();
+    }
+
+    static void appendString(StringBuilder sb, String s) {
+        if (s == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static final class Template {
+        private final HttpStatus status;
+        private final String message;
+        private final String prefix;
+
+        private Template(HttpStatus status, String message, String prefix) {
+            this.status = status;
+            this.message = message;
+            this.prefix = prefix;
+        }
+    }
+}
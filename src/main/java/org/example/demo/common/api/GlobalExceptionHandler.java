@@ -1,95 +1,63 @@
 package org.example.demo.common.api;
 
 import java.time.Instant;
-import java.util.Locale;
 
 import org.example.demo.common.exception.ApiException;
+import org.example.demo.common.exception.RetryLaterException;
+import org.example.demo.common.metrics.ErrorCodeObservationConvention;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.FieldError;
-import org.springframework.validation.ObjectError;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+/**
+ * Renders every rejection as an {@link ErrorResponse} body. Bodies come from
+ * {@link ErrorResponseTemplates}, so a flood of bad requests is not more expensive to answer
+ * than the successful requests it competes with.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(ApiException.class)
-    public ResponseEntity<ErrorResponse> handleApiException(ApiException ex, HttpServletRequest request) {
-        HttpStatus status = ex.getStatus();
-        ErrorResponse body = new ErrorResponse(
-                status.value(),
-                status.getReasonPhrase(),
-                ex.getMessageKey(),
-                ex.getCode(),
-                request.getRequestURI(),
-                Instant.now()
-        );
-        return ResponseEntity.status(status).body(body);
+    public ResponseEntity<byte[]> handleApiException(ApiException ex, HttpServletRequest request) {
+        return json(ex.getStatus())
+                .body(body(ex.getStatus(), ex.getMessageKey(), ex.getCode(), request));
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest request) {
-        HttpStatus status = HttpStatus.BAD_REQUEST;
-        String code = resolveValidationCode(ex);
-
-        ErrorResponse body = new ErrorResponse(
-                status.value(),
-                status.getReasonPhrase(),
-                "VALIDATION_FAILED",
-                code,
-                request.getRequestURI(),
-                Instant.now()
-        );
-        return ResponseEntity.status(status).body(body);
+    @ExceptionHandler(RetryLaterException.class)
+    public ResponseEntity<byte[]> handleRetryLater(RetryLaterException ex, HttpServletRequest request) {
+        return json(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body(ex.getStatus(), ex.getMessageKey(), ex.getCode(), request));
     }
 
-    private String resolveValidationCode(MethodArgumentNotValidException ex) {
-        FieldError fieldError = ex.getBindingResult().getFieldError();
-        if (fieldError == null) {
-            ObjectError globalError = ex.getBindingResult().getGlobalError();
-            if (globalError != null) {
-                String constraint = globalError.getCode();
-                if ("PasswordMatches".equals(constraint)) {
-                    return "INVALID_CONFIRM_PASSWORD";
-                }
-            }
-            return "VALIDATION_FAILED";
-        }
-
-        String field = fieldError.getField();
-        String normalizedField = normalizeFieldForCode(field);
-        String constraint = fieldError.getCode();
-
-        // "required" style codes used in examples (e.g. PASSWORD_REQUIRED)
-        if ("NotBlank".equals(constraint) || "NotNull".equals(constraint)) {
-            return normalizedField + "_REQUIRED";
-        }
-
-        // For email format, prefer INVALID_EMAIL
-        if ("Email".equals(constraint)) {
-            return "INVALID_EMAIL";
-        }
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<byte[]> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest request) {
+        String code = ValidationCodes.codeFor(ex.getBindingResult());
+        return json(HttpStatus.BAD_REQUEST)
+                .body(body(HttpStatus.BAD_REQUEST, ValidationCodes.VALIDATION_FAILED, code, request));
+    }
 
-        // For cross-field password match
-        if ("PasswordMatches".equals(constraint)) {
-            return "INVALID_CONFIRM_PASSWORD";
-        }
+    // unparseable or missing body: same answer as a body that binds to nothing valid
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<byte[]> handleUnreadable(HttpMessageNotReadableException ex, HttpServletRequest request) {
+        return json(HttpStatus.BAD_REQUEST)
+                .body(body(HttpStatus.BAD_REQUEST, ValidationCodes.VALIDATION_FAILED,
+                        ValidationCodes.VALIDATION_FAILED, request));
+    }
 
-        return "INVALID_" + normalizedField;
+    private static ResponseEntity.BodyBuilder json(HttpStatus status) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON);
     }
 
-    private String normalizeFieldForCode(String field) {
-        if (field == null || field.isBlank()) {
-            return "UNKNOWN";
-        }
-        // confirmPassword -> CONFIRM_PASSWORD
-        String snake = field
-                .replaceAll("([a-z])([A-Z]+)", "$1_$2")
-                .toUpperCase(Locale.ROOT);
-        return snake;
+    private static byte[] body(HttpStatus status, String message, String code, HttpServletRequest request) {
+        request.setAttribute(ErrorCodeObservationConvention.CODE_ATTRIBUTE, code);
+        return ErrorResponseTemplates.render(status, message, code, request.getRequestURI(), Instant.now());
     }
 }
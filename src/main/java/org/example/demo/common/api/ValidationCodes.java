@@ -0,0 +1,175 @@
+package org.example.demo.common.api;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * Maps bean-validation failures to API error codes ({@code PASSWORD_REQUIRED},
+ * {@code INVALID_EMAIL}, {@code INVALID_CONFIRM_PASSWORD}, ...). Used both for requests the
+ * services validate themselves and for {@code @Valid} bodies rejected by Spring MVC, so the
+ * two can never disagree.
+ * <p>
+ * Every code a request class can produce is computed once, from its constraint annotations,
+ * the first time the class is seen; rejecting a request is then a couple of map lookups with
+ * no string building. When several constraints fail, the code comes from the {@code password}
+ * field first, then the other fields in declaration order, then class-level constraints; within
+ * a field, a required-value violation wins.
+ */
+public final class ValidationCodes {
+
+    public static final String VALIDATION_FAILED = "VALIDATION_FAILED";
+
+    private static final String PRIORITY_FIELD = "password";
+    private static final String CLASS_LEVEL = "";
+    private static final int CLASS_LEVEL_RANK = 1_000_000;
+
+    private static final ClassValue<CodeTable> TABLES = new ClassValue<>() {
+        @Override
+        protected CodeTable computeValue(Class<?> type) {
+            return CodeTable.build(type);
+        }
+    };
+
+    private ValidationCodes() {
+    }
+
+    /** Code for violations reported by {@code Validator.validate} on an instance of {@code type}. */
+    public static String codeFor(Class<?> type, Collection<? extends ConstraintViolation<?>> violations) {
+        CodeTable table = TABLES.get(type);
+        String best = VALIDATION_FAILED;
+        int bestRank = Integer.MAX_VALUE;
+        for (ConstraintViolation<?> v : violations) {
+            String field = v.getPropertyPath() == null ? CLASS_LEVEL : v.getPropertyPath().toString();
+            String constraint = v.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
+            int rank = rank(table, field, constraint);
+            if (rank < bestRank) {
+                bestRank = rank;
+                best = table.code(field, constraint);
+            }
+        }
+        return best;
+    }
+
+    /** Code for a {@code @Valid} body rejected by Spring MVC. */
+    public static String codeFor(BindingResult result) {
+        Object target = result.getTarget();
+        CodeTable table = TABLES.get(target == null ? Object.class : target.getClass());
+        String best = VALIDATION_FAILED;
+        int bestRank = Integer.MAX_VALUE;
+        for (FieldError error : result.getFieldErrors()) {
+            int rank = rank(table, error.getField(), error.getCode());
+            if (rank < bestRank) {
+                bestRank = rank;
+                best = table.code(error.getField(), error.getCode());
+            }
+        }
+        ObjectError globalError = result.getGlobalError();
+        if (bestRank == Integer.MAX_VALUE && globalError != null) {
+            return table.code(CLASS_LEVEL, globalError.getCode());
+        }
+        return best;
+    }
+
+    // within one field a missing value wins, so " " is PASSWORD_REQUIRED rather than INVALID_PASSWORD
+    private static int rank(CodeTable table, String field, String constraint) {
+        boolean required = "NotBlank".equals(constraint) || "NotNull".equals(constraint);
+        return table.rank(field) * 2 + (required ? 0 : 1);
+    }
+
+    // the rules; only run while building a table, or for a path the table does not know
+    static String code(String field, String constraint) {
+        if ("PasswordMatches".equals(constraint)) {
+            return "INVALID_CONFIRM_PASSWORD";
+        }
+        if (field == null || field.isEmpty()) {
+            return VALIDATION_FAILED;
+        }
+        if ("NotBlank".equals(constraint) || "NotNull".equals(constraint)) {
+            return screamingSnake(field) + "_REQUIRED";
+        }
+        if ("Email".equals(constraint)) {
+            return "INVALID_EMAIL";
+        }
+        return "INVALID_" + screamingSnake(field);
+    }
+
+    // confirmPassword -> CONFIRM_PASSWORD
+    static String screamingSnake(String field) {
+        StringBuilder sb = new StringBuilder(field.length() + 4);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (i > 0 && c >= 'A' && c <= 'Z') {
+                char prev = field.charAt(i - 1);
+                if (prev >= 'a' && prev <= 'z') {
+                    sb.append('_');
+                }
+            }
+            sb.append(c);
+        }
+        return sb.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static final class CodeTable {
+
+        // field ("" for class-level) -> constraint simple name -> code
+        private final Map<String, Map<String, String>> codes;
+        private final Map<String, Integer> ranks;
+
+        private CodeTable(Map<String, Map<String, String>> codes, Map<String, Integer> ranks) {
+            this.codes = codes;
+            this.ranks = ranks;
+        }
+
+        static CodeTable build(Class<?> type) {
+            Map<String, Map<String, String>> codes = new HashMap<>();
+            Map<String, Integer> ranks = new HashMap<>();
+            codes.put(CLASS_LEVEL, codesFor(CLASS_LEVEL, type.getAnnotations()));
+            ranks.put(CLASS_LEVEL, CLASS_LEVEL_RANK);
+            int declared = 1;
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    Map<String, String> fieldCodes = codesFor(f.getName(), f.getAnnotations());
+                    if (!fieldCodes.isEmpty() && !codes.containsKey(f.getName())) {
+                        codes.put(f.getName(), fieldCodes);
+                        ranks.put(f.getName(), PRIORITY_FIELD.equals(f.getName()) ? 0 : declared++);
+                    }
+                }
+            }
+            return new CodeTable(Map.copyOf(codes), Map.copyOf(ranks));
+        }
+
+        private static Map<String, String> codesFor(String field, Annotation[] annotations) {
+            Map<String, String> byConstraint = new HashMap<>();
+            for (Annotation a : annotations) {
+                if (a.annotationType().isAnnotationPresent(Constraint.class)) {
+                    String constraint = a.annotationType().getSimpleName();
+                    byConstraint.put(constraint, ValidationCodes.code(field, constraint));
+                }
+            }
+            return Map.copyOf(byConstraint);
+        }
+
+        int rank(String field) {
+            Integer rank = ranks.get(field);
+            // nested paths and the like: after known fields, before class-level constraints
+            return rank != null ? rank : CLASS_LEVEL_RANK - 1;
+        }
+
+        String code(String field, String constraint) {
+            Map<String, String> byConstraint = codes.get(field);
+            String code = byConstraint == null ? null : byConstraint.get(constraint);
+            return code != null ? code : ValidationCodes.code(field, constraint);
+        }
+    }
+}
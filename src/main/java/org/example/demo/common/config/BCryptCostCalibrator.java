@@ -0,0 +1,53 @@
+package org.example.demo.common.config;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Picks the BCrypt cost (log2 rounds) whose hash time on this host fits a latency budget.
+ * Each cost step doubles the work, so costs are tried upwards from the floor and the search
+ * stops at the first one over budget.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * @return the highest cost in [minCost, maxCost] measured within the budget; minCost when
+     * even that is over budget (the floor is a security minimum, not a latency target)
+     */
+    public static int calibrate(long budgetNanos, int minCost, int maxCost) {
+        // warm up the JIT on a cheap hash so the first real measurement is not inflated
+        BCrypt.hashpw("calibration", BCrypt.gensalt(4));
+        return calibrate(BCryptCostCalibrator::measureNanos, budgetNanos, minCost, maxCost);
+    }
+
+    static int calibrate(IntToLongFunction measureNanos, long budgetNanos, int minCost, int maxCost) {
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            if (measureNanos.applyAsLong(cost) > budgetNanos) {
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+
+    /** Median of a few hashes at the given cost. */
+    static long measureNanos(int cost) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            String salt = BCrypt.gensalt(cost);
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
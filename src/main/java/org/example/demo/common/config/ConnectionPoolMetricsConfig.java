@@ -0,0 +1,42 @@
+package org.example.demo.common.config;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * Hikari wait-time percentiles. Spring Boot already binds Hikari to Micrometer:
+ * {@code hikaricp.connections.pending} (threads waiting for a connection) and the
+ * {@code hikaricp.connections.acquire} timer (how long they waited). This adds p50/p95/p99
+ * gauges to that timer over a one-minute window. With virtual threads, request concurrency is
+ * no longer capped by a Tomcat pool, so a rising acquire p99 with a non-zero pending count
+ * means the connection pool, not threads, is the bottleneck.
+ */
+@Configuration
+public class ConnectionPoolMetricsConfig {
+
+    static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    @Bean
+    public MeterFilter connectionAcquirePercentiles() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!ACQUIRE_TIMER.equals(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.95, 0.99)
+                        .expiry(Duration.ofMinutes(1))
+                        .bufferLength(3)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
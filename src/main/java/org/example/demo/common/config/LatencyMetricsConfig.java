@@ -0,0 +1,72 @@
+package org.example.demo.common.config;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.example.demo.common.metrics.OperationTimer;
+import org.example.demo.common.metrics.TimedJacksonHttpMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * Percentile histograms and SLO buckets ({@code app.metrics.slo-ms}) for the hot-path
+ * stages, scraped from {@code /actuator/prometheus}. Which stage a slow request spent its
+ * time in:
+ * <ul>
+ *   <li>{@code http.server.requests}: the whole request, tagged with the error {@code code}</li>
+ *   <li>{@code service.duration}: {@code board.list}, {@code user.login}, {@code user.register}</li>
+ *   <li>{@code spring.data.repository.invocations}: each repository query (recorded by Spring Boot)</li>
+ *   <li>{@code password.hashing.duration}: BCrypt encode / matches</li>
+ *   <li>{@code jwt.sign.duration}: access-token signing</li>
+ *   <li>{@code http.response.serialization}: JSON body writing</li>
+ * </ul>
+ */
+@Configuration
+public class LatencyMetricsConfig {
+
+    static final Set<String> HISTOGRAM_TIMERS = Set.of(
+            "http.server.requests",
+            OperationTimer.NAME,
+            "spring.data.repository.invocations",
+            "password.hashing.duration",
+            "jwt.sign.duration",
+            TimedJacksonHttpMessageConverter.NAME);
+
+    @Bean
+    public MeterFilter latencyHistograms(@Value("${app.metrics.slo-ms:5,10,25,50,100,250,500,1000,2500}") long[] sloMillis) {
+        double[] sloNanos = new double[sloMillis.length];
+        for (int i = 0; i < sloMillis.length; i++) {
+            sloNanos[i] = Duration.ofMillis(sloMillis[i]).toNanos();
+        }
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || !HISTOGRAM_TIMERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .serviceLevelObjectives(sloNanos)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    // replaces Spring Boot's default JSON converter, which backs off when one is defined
+    @Bean
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper,
+                                                                             MeterRegistry meterRegistry) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.demo.common.config;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+
+    /**
+     * BCrypt with its cost measured on this host at startup to fit
+     * {@code app.password.bcrypt.target-ms}; {@code application.yml} turns this on with
+     * {@code app.password.bcrypt.calibrate=true}. Calibration takes seconds, so tests turn it
+     * off in {@code src/test/resources/config/application.yml}; without it the cost is the fixed
+     * {@code app.password.bcrypt.cost} (default 10). New hashes are
+     * stored as {@code {bcrypt}$2a$...}; legacy un-prefixed hashes still match and report
+     * {@code upgradeEncoding() == true}, as do hashes below the current cost, so they are
+     * rewritten on the next successful login.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.password.bcrypt.calibrate:false}") boolean calibrate,
+            @Value("${app.password.bcrypt.cost:10}") int fixedCost,
+            @Value("${app.password.bcrypt.target-ms:250}") long targetMillis,
+            @Value("${app.password.bcrypt.min-cost:10}") int minCost,
+            @Value("${app.password.bcrypt.max-cost:16}") int maxCost
+    ) {
+        int cost = fixedCost;
+        if (calibrate) {
+            long start = System.nanoTime();
+            cost = BCryptCostCalibrator.calibrate(TimeUnit.MILLISECONDS.toNanos(targetMillis), minCost, maxCost);
+            log.info("BCrypt cost calibrated to {} for a {} ms budget (calibration took {} ms)",
+                    cost, targetMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
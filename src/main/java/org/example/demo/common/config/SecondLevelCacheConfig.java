@@ -0,0 +1,62 @@
+package org.example.demo.common.config;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.example.demo.user.entity.User;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level cache on JCache (Caffeine). Only entities annotated with
+ * {@code @Cache} use it; today that is {@link User}, by id and by its {@code email} natural id.
+ * Each region is bounded by {@code app.users.cache.max-entries} and entries are dropped
+ * {@code ttl-seconds} after they were written, which also bounds how long another node's
+ * update can go unseen here.
+ * <p>
+ * Statistics are on, so the actuator {@code hibernate.second.level.cache.requests} and
+ * {@code hibernate.cache.natural.id.requests} meters report hits and misses per region.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.users.cache.max-entries:100000}") long maxEntries,
+            @Value("${app.users.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        for (String region : List.of(User.CACHE_REGION, User.EMAIL_CACHE_REGION)) {
+            CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+            config.setMaximumSize(OptionalLong.of(maxEntries));
+            config.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            config.setStatisticsEnabled(true);
+            cacheManager.createCache(region, config);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(
+            CacheManager hibernateCacheManager,
+            @Value("${app.users.cache.enabled:true}") boolean enabled
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
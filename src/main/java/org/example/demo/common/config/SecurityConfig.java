@@ -1,11 +1,19 @@
 package org.example.demo.common.config;
 
+import org.example.demo.user.security.JwtAuthenticationFilter;
+import org.example.demo.user.security.LoginThrottleFilter;
+import org.example.demo.user.security.SecurityErrorHandler;
+import org.example.demo.user.service.JwtTokenService;
+import org.example.demo.user.service.LoginThrottle;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 @Configuration
@@ -13,18 +21,38 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            CorsConfigurationSource corsConfigurationSource,
+            JwtTokenService jwtTokenService,
+            SecurityErrorHandler securityErrorHandler,
+            LoginThrottle loginThrottle
+    ) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource))
             .csrf(csrf -> csrf.disable())
+            // stateless: every request authenticates from its bearer token, no HTTP session
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(new LoginThrottleFilter(loginThrottle), UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenService), UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling(ex -> ex
+                    .authenticationEntryPoint(securityErrorHandler)
+                    .accessDeniedHandler(securityErrorHandler)
+            )
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers(HttpMethod.POST, "/users/register").permitAll()
                     .requestMatchers(HttpMethod.POST, "/users/login").permitAll()
+                    .requestMatchers(HttpMethod.POST, "/users/token/refresh").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/users/batch").permitAll()
                     .requestMatchers(HttpMethod.GET, "/boards").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/boards/suggest").permitAll()
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // 讓 preflight 過
+                    // scraped without a token; keep the management port off the public network
+                    .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                    .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
+                    .requestMatchers("/admin/**").hasRole("ADMIN")
                     .anyRequest().authenticated()
             );
-        // 其他設定...
         return http.build();
     }
 }
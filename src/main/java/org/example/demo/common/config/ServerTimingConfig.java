@@ -0,0 +1,34 @@
+package org.example.demo.common.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.demo.common.metrics.ServerTiming;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Feeds the {@code db} stage of {@code Server-Timing}: every repository method invocation adds
+ * its duration, the same invocations Spring Boot times into
+ * {@code spring.data.repository.invocations}.
+ */
+@Configuration
+public class ServerTimingConfig {
+
+    // static: a post-processor must not pull this configuration class in early
+    @Bean
+    public static BeanPostProcessor repositoryServerTiming() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(
+                            invocation -> ServerTiming.add(ServerTiming.Stage.DB,
+                                    invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.demo.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Watches the JFR stream for virtual threads pinned to their carrier (blocking inside
+ * {@code synchronized} or a native frame) for longer than {@code threshold-ms}. Each pin is
+ * recorded in {@code jvm.threads.virtual.pinned}; the first pin seen at each code location is
+ * logged with that location, so the offending lock can be found without a recording. Failed
+ * virtual-thread starts are counted in {@code jvm.threads.virtual.submit.failed}.
+ * <p>
+ * Only active with {@code spring.threads.virtual.enabled=true}; platform threads cannot pin.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final String APP_PACKAGE = "org.example.demo.";
+    private static final int MAX_LOGGED_LOCATIONS = 256;
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Counter submitFailed;
+    private final Set<String> loggedLocations = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.threads.pinning.threshold-ms:20}") long thresholdMillis
+    ) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .register(meterRegistry);
+        this.submitFailed = Counter.builder("jvm.threads.virtual.submit.failed")
+                .description("Virtual threads that could not be started or unparked")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        try {
+            RecordingStream rs = new RecordingStream();
+            rs.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            rs.enable(SUBMIT_FAILED_EVENT);
+            rs.onEvent(PINNED_EVENT, this::onPinned);
+            rs.onEvent(SUBMIT_FAILED_EVENT, e -> submitFailed.increment());
+            rs.startAsync();
+            stream = rs;
+        } catch (RuntimeException ex) {
+            // e.g. a runtime built without JFR: the app works, it just cannot see pinning
+            log.warn("JFR unavailable; virtual-thread pinning will not be reported", ex);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        String location = location(event.getStackTrace());
+        if (loggedLocations.size() < MAX_LOGGED_LOCATIONS && loggedLocations.add(location)) {
+            log.warn("virtual thread pinned for {} ms at {} (thread {})", event.getDuration().toMillis(), location,
+                    event.getThread() == null ? "?" : event.getThread().getJavaName());
+        }
+    }
+
+    // the innermost application frame, else the innermost frame: that is where the lock is held
+    static String location(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -2,6 +2,11 @@ package org.example.demo.common.exception;
 
 import org.springframework.http.HttpStatus;
 
+/**
+ * An expected, client-facing failure rendered by {@code GlobalExceptionHandler}. These are
+ * control flow, not bugs, so they carry no stack trace: filling one in would be most of the
+ * cost of rejecting a request.
+ */
 public abstract class ApiException extends RuntimeException {
 
     private final HttpStatus status;
@@ -9,7 +14,7 @@ public abstract class ApiException extends RuntimeException {
     private final String code;
 
     protected ApiException(HttpStatus status, String messageKey, String code) {
-        super(messageKey);
+        super(messageKey, null, false, false);
         this.status = status;
         this.messageKey = messageKey;
         this.code = code;
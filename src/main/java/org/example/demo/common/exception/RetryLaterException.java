@@ -0,0 +1,21 @@
+package org.example.demo.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Load shedding: the request was refused before doing the expensive work, and the client may
+ * retry after {@link #getRetryAfterSeconds()} (sent as {@code Retry-After}).
+ */
+public class RetryLaterException extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public RetryLaterException(HttpStatus status, String code, long retryAfterSeconds) {
+        super(status, status == HttpStatus.TOO_MANY_REQUESTS ? "TOO_MANY_REQUESTS" : "SERVICE_UNAVAILABLE", code);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.demo.common.metrics;
+
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.common.KeyValues;
+
+/**
+ * Adds the API error {@code code} to {@code http.server.requests}, so a 400 from
+ * {@code PASSWORD_REQUIRED} and one from {@code TOO_MANY_IDS} are separate series. The code
+ * is left in {@link #CODE_ATTRIBUTE} by whatever rendered the error body; successful
+ * requests are tagged {@code none}.
+ */
+@Component
+public class ErrorCodeObservationConvention extends DefaultServerRequestObservationConvention {
+
+    public static final String CODE_ATTRIBUTE = ErrorCodeObservationConvention.class.getName() + ".code";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object code = context.getCarrier().getAttribute(CODE_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context).and("code", code == null ? "none" : code.toString());
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.demo.common.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Java Flight Recorder on demand, with no restart or agent. {@code POST /actuator/jfr} starts a
+ * recording of {@code seconds} (default 30, at most {@code app.profiling.jfr.max-seconds}) and
+ * answers 202 at once; JFR stops it by itself when the time is up. {@code GET /actuator/jfr}
+ * then writes it to a temp file and streams that {@code .jfr} file (409 while it is still
+ * recording, 404 if none was started). {@code settings} is {@code default} (about 1% overhead)
+ * or {@code profile} (more detail, more overhead). The recording includes the {@code org.example.demo.*} events
+ * (ListBoards, Login, TokenIssued). One recording is kept at a time: starting another while
+ * one runs gets 409, and a new one replaces the finished file. Like every actuator endpoint
+ * besides health and prometheus, it requires ADMIN.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+    private static final int DEFAULT_SECONDS = 30;
+    private static final int STATUS_ACCEPTED = 202;
+    private static final int STATUS_CONFLICT = 409;
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final int maxSeconds;
+    private Recording recording;
+    private Path file;
+
+    public JfrRecordingEndpoint(@Value("${app.profiling.jfr.max-seconds:120}") int maxSeconds) {
+        this.maxSeconds = maxSeconds;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(@Nullable Integer seconds, @Nullable String settings) {
+        int duration = seconds == null ? DEFAULT_SECONDS : seconds;
+        String settingsName = settings == null ? "default" : settings;
+        if (duration < 1 || duration > maxSeconds || !SETTINGS.contains(settingsName)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        try {
+            if (!start(Duration.ofSeconds(duration), settingsName)) {
+                return new WebEndpointResponse<>(STATUS_CONFLICT);
+            }
+        } catch (IOException | ParseException | RuntimeException ex) {
+            log.warn("JFR recording failed to start", ex);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+        return new WebEndpointResponse<>(Map.of("seconds", duration, "settings", settingsName), STATUS_ACCEPTED);
+    }
+
+    @ReadOperation
+    public synchronized WebEndpointResponse<Resource> download() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording.getState() != RecordingState.STOPPED) {
+            return new WebEndpointResponse<>(STATUS_CONFLICT);
+        }
+        try {
+            if (file == null) {
+                Path dump = Files.createTempFile("demo-", ".jfr");
+                recording.dump(dump);
+                file = dump;
+            }
+        } catch (IOException ex) {
+            log.warn("JFR recording could not be written", ex);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+        // streamed from disk, never held in memory
+        return new WebEndpointResponse<>(new FileSystemResource(file));
+    }
+
+    /** @return false when a recording is still running */
+    synchronized boolean start(Duration duration, String settingsName) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return false;
+        }
+        discard();
+        Recording rec = new Recording(Configuration.getConfiguration(settingsName));
+        try {
+            rec.setName("actuator-" + settingsName);
+            rec.setToDisk(true);
+            // JFR stops the recording by itself once the duration is up
+            rec.setDuration(duration);
+            rec.start();
+        } catch (RuntimeException ex) {
+            rec.close();
+            throw ex;
+        }
+        recording = rec;
+        log.info("JFR recording started for {} s with '{}' settings", duration.toSeconds(), settingsName);
+        return true;
+    }
+
+    @PreDestroy
+    public synchronized void discard() throws IOException {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (file != null) {
+            Files.deleteIfExists(file);
+            file = null;
+        }
+    }
+}
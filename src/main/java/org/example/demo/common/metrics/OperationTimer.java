@@ -0,0 +1,51 @@
+package org.example.demo.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.example.demo.common.exception.ApiException;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times one service operation into {@code service.duration}, tagged {@code operation},
+ * {@code outcome} ({@code success}, {@code client_error}, {@code server_error}) and
+ * {@code code}: the {@link ApiException} code, {@code UNHANDLED} for any other exception,
+ * {@code none} on success. Codes are constants, so the tag stays low-cardinality.
+ */
+public final class OperationTimer {
+
+    public static final String NAME = "service.duration";
+
+    private final Meter.MeterProvider<Timer> timers;
+    private final String operation;
+
+    public OperationTimer(MeterRegistry meterRegistry, String operation) {
+        this.timers = Timer.builder(NAME)
+                .description("Service operation latency by outcome")
+                .withRegistry(meterRegistry);
+        this.operation = operation;
+    }
+
+    public <T> T record(Supplier<T> work) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        String code = "none";
+        try {
+            return work.get();
+        } catch (ApiException ex) {
+            outcome = ex.getStatus().is4xxClientError() ? "client_error" : "server_error";
+            code = ex.getCode() == null ? "none" : ex.getCode();
+            throw ex;
+        } catch (RuntimeException | Error ex) {
+            outcome = "server_error";
+            code = "UNHANDLED";
+            throw ex;
+        } finally {
+            timers.withTags("operation", operation, "outcome", outcome, "code", code)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.demo.common.metrics;
+
+/**
+ * Per-request stage durations for the {@code Server-Timing} header. A request that
+ * {@link ServerTimingFilter} picked for timing gets one {@code long[]} for its thread; stages
+ * add their nanoseconds into it. Every other request has none, so recording is a thread-local
+ * read and nothing more: no clock reads, no allocation.
+ */
+public final class ServerTiming {
+
+    public enum Stage {
+        DB("db"),
+        BCRYPT("bcrypt"),
+        JWT("jwt"),
+        SER("ser");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private ServerTiming() {
+    }
+
+    /** Clock reading for {@link #stop}, or 0 when this request is not being timed. */
+    public static long start() {
+        return CURRENT.get() == null ? 0L : System.nanoTime();
+    }
+
+    public static void stop(Stage stage, long startNanos) {
+        long[] durations = CURRENT.get();
+        if (durations != null) {
+            durations[stage.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    /** Adds a duration the caller measured anyway, e.g. for a Micrometer timer. */
+    public static void add(Stage stage, long nanos) {
+        long[] durations = CURRENT.get();
+        if (durations != null) {
+            durations[stage.ordinal()] += nanos;
+        }
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void begin() {
+        CURRENT.set(new long[STAGES.length]);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** {@code db;dur=1.2, bcrypt;dur=0, jwt;dur=0.1, ser;dur=0.3, total;dur=2.5}, durations in ms. */
+    static String header(long totalNanos) {
+        long[] durations = CURRENT.get();
+        StringBuilder sb = new StringBuilder(80);
+        for (Stage stage : STAGES) {
+            append(sb, stage.metricName(), durations == null ? 0 : durations[stage.ordinal()]);
+            sb.append(", ");
+        }
+        append(sb, "total", totalNanos);
+        return sb.toString();
+    }
+
+    // milliseconds with one decimal, without String.format
+    private static void append(StringBuilder sb, String name, long nanos) {
+        long tenths = (nanos + 50_000) / 100_000;
+        sb.append(name).append(";dur=").append(tenths / 10);
+        if (tenths % 10 != 0) {
+            sb.append('.').append(tenths % 10);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.demo.common.metrics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Adds a W3C {@code Server-Timing} header ({@code db}, {@code bcrypt}, {@code jwt}, {@code ser},
+ * {@code total}) to requests that carry {@code X-Debug-Timing: <app.server-timing.debug-token>}
+ * or fall within {@code app.server-timing.sample-rate}. Both are off by default; other
+ * requests pass straight through.
+ * <p>
+ * The header tells a client whether BCrypt ran, i.e. whether a login email exists, so keep the
+ * sample rate at 0 wherever that matters and use the debug token instead.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+    public static final String DEBUG_HEADER = "X-Debug-Timing";
+
+    private final double sampleRate;
+    private final byte[] debugToken;
+
+    public ServerTimingFilter(
+            @Value("${app.server-timing.sample-rate:0}") double sampleRate,
+            @Value("${app.server-timing.debug-token:}") String debugToken
+    ) {
+        this.sampleRate = sampleRate;
+        this.debugToken = debugToken == null || debugToken.isBlank() ? null : debugToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!selected(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        TimedResponse timed = new TimedResponse(response, System.nanoTime());
+        ServerTiming.begin();
+        try {
+            chain.doFilter(request, timed);
+        } finally {
+            // bodiless responses (204, 304) are never committed by the chain itself
+            timed.addTimingHeader();
+            ServerTiming.end();
+        }
+    }
+
+    private boolean selected(HttpServletRequest request) {
+        if (debugToken != null) {
+            String presented = request.getHeader(DEBUG_HEADER);
+            if (presented != null && MessageDigest.isEqual(debugToken, presented.getBytes(StandardCharsets.UTF_8))) {
+                return true;
+            }
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /** Adds the header at the last moment it can still be sent: just before the body starts. */
+    private static final class TimedResponse extends HttpServletResponseWrapper {
+
+        private final long startNanos;
+        private boolean headerAdded;
+
+        TimedResponse(HttpServletResponse response, long startNanos) {
+            super(response);
+            this.startNanos = startNanos;
+        }
+
+        void addTimingHeader() {
+            if (!headerAdded && !isCommitted()) {
+                headerAdded = true;
+                setHeader(HEADER, ServerTiming.header(System.nanoTime() - startNanos));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addTimingHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addTimingHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addTimingHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addTimingHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addTimingHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addTimingHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
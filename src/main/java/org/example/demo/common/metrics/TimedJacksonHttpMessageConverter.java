@@ -0,0 +1,92 @@
+package org.example.demo.common.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The JSON converter for controller return values, timing each body written into
+ * {@code http.response.serialization} tagged with the body's simple class name.
+ * {@code GET /boards} bodies are serialized ahead of time by {@code BoardResponseCache}, which
+ * records under the same name.
+ * <p>
+ * For a request being timed for {@code Server-Timing}, the body is serialized into a buffer
+ * first, so that {@code ser} is known before the headers go out.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public static final String NAME = "http.response.serialization";
+
+    private final Meter.MeterProvider<Timer> timers;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.timers = timers(meterRegistry);
+    }
+
+    public static Meter.MeterProvider<Timer> timers(MeterRegistry meterRegistry) {
+        return Timer.builder(NAME)
+                .description("Time to serialize a response body")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        if (!ServerTiming.isActive()) {
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                record(object, System.nanoTime() - start);
+            }
+            return;
+        }
+        BufferedMessage buffered = new BufferedMessage(outputMessage.getHeaders());
+        try {
+            super.writeInternal(object, type, buffered);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            record(object, nanos);
+            ServerTiming.add(ServerTiming.Stage.SER, nanos);
+        }
+        buffered.body.writeTo(outputMessage.getBody());
+    }
+
+    private void record(Object object, long nanos) {
+        timers.withTags("type", object.getClass().getSimpleName()).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static final class BufferedMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        BufferedMessage(HttpHeaders headers) {
+            this.headers = headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.demo.user.controller;
+
+import java.time.Instant;
+
+import org.example.demo.user.dto.RevokeTokenRequest;
+import org.example.demo.user.service.JwtTokenService;
+import org.example.demo.user.service.TokenRevocationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+
+/**
+ * Admin revocation of a single access token by {@code jti}. The token itself is not presented,
+ * so its exp is unknown; the revocation is kept for one full access-token TTL, which covers it.
+ */
+@RestController
+@RequestMapping("/admin/tokens")
+public class TokenAdminController {
+
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtTokenService jwtTokenService;
+
+    public TokenAdminController(TokenRevocationService tokenRevocationService, JwtTokenService jwtTokenService) {
+        this.tokenRevocationService = tokenRevocationService;
+        this.jwtTokenService = jwtTokenService;
+    }
+
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@Valid @RequestBody RevokeTokenRequest request) {
+        Instant expiresAt = Instant.now().plusSeconds(jwtTokenService.getTtlSeconds());
+        tokenRevocationService.revoke(request.getJti(), null, expiresAt);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,14 +1,24 @@
 package org.example.demo.user.controller;
 
+import org.example.demo.user.dto.BatchUsersResponse;
 import org.example.demo.user.dto.LoginRequest;
 import org.example.demo.user.dto.LoginResponse;
+import org.example.demo.user.dto.LogoutRequest;
+import org.example.demo.user.dto.RefreshTokenRequest;
 import org.example.demo.user.dto.RegisterUserRequest;
 import org.example.demo.user.dto.RegisterUserResponse;
+import org.example.demo.user.security.AuthenticatedUser;
+import org.example.demo.user.service.RefreshTokenService;
+import org.example.demo.user.service.TokenRevocationService;
+import org.example.demo.user.service.UserProfileService;
 import org.example.demo.user.service.UserService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -18,20 +28,51 @@ import jakarta.validation.Valid;
 public class UserController {
 
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserProfileService userProfileService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, RefreshTokenService refreshTokenService,
+                          TokenRevocationService tokenRevocationService, UserProfileService userProfileService) {
         this.userService = userService;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userProfileService = userProfileService;
     }
 
+    // register and login bodies are normalized and validated once, in UserService
     @PostMapping("/register")
-    public ResponseEntity<RegisterUserResponse> register(@Valid @RequestBody RegisterUserRequest request) {
+    public ResponseEntity<RegisterUserResponse> register(@RequestBody RegisterUserRequest request) {
         RegisterUserResponse response = userService.registerUser(request);
         return ResponseEntity.status(201).body(response);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
         LoginResponse response = userService.loginUser(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/token/refresh")
+    public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        LoginResponse response = refreshTokenService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal AuthenticatedUser user,
+                                       @Valid @RequestBody(required = false) LogoutRequest request) {
+        if (user.getTokenId() != null) {
+            tokenRevocationService.revoke(user.getTokenId(), user.getUserId(), user.getExpiresAt());
+        }
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken(), user.getUserId());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<BatchUsersResponse> batch(@RequestParam(name = "ids", required = false) String ids) {
+        return ResponseEntity.ok(userProfileService.getProfiles(ids));
+    }
 }
@@ -0,0 +1,24 @@
+package org.example.demo.user.dto;
+
+import java.util.List;
+
+public class BatchUsersResponse {
+
+    // in request order, duplicates removed; ids with no user are left out
+    private List<UserProfileItem> items;
+
+    public BatchUsersResponse() {
+    }
+
+    public BatchUsersResponse(List<UserProfileItem> items) {
+        this.items = items;
+    }
+
+    public List<UserProfileItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<UserProfileItem> items) {
+        this.items = items;
+    }
+}
@@ -6,6 +6,7 @@ public class LoginResponse {
     private String displayName;
     private String role;
     private String accessToken;
+    private String refreshToken;
 
     public LoginResponse() {
     }
@@ -17,6 +18,11 @@ public class LoginResponse {
         this.accessToken = accessToken;
     }
 
+    public LoginResponse(Long userId, String displayName, String role, String accessToken, String refreshToken) {
+        this(userId, displayName, role, accessToken);
+        this.refreshToken = refreshToken;
+    }
+
     public Long getUserId() {
         return userId;
     }
@@ -48,5 +54,12 @@ public class LoginResponse {
     public void setAccessToken(String accessToken) {
         this.accessToken = accessToken;
     }
-}
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
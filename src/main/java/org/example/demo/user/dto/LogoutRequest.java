@@ -0,0 +1,21 @@
+package org.example.demo.user.dto;
+
+import jakarta.validation.constraints.Size;
+
+public class LogoutRequest {
+
+    // optional: when present, the refresh-token session it belongs to is ended as well
+    @Size(max = 100)
+    private String refreshToken;
+
+    public LogoutRequest() {
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.demo.user.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class RefreshTokenRequest {
+
+    @NotBlank
+    @Size(max = 100)
+    private String refreshToken;
+
+    public RefreshTokenRequest() {
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.demo.user.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class RevokeTokenRequest {
+
+    @NotBlank
+    @Size(max = 36)
+    private String jti;
+
+    public RevokeTokenRequest() {
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.demo.user.dto;
+
+import org.example.demo.user.entity.UserRole;
+
+/** Public profile fields only; safe to show next to anything a user has posted. */
+public class UserProfileItem {
+
+    private Long userId;
+    private String displayName;
+    private String role;
+
+    public UserProfileItem() {
+    }
+
+    public UserProfileItem(Long userId, String displayName, String role) {
+        this.userId = userId;
+        this.displayName = displayName;
+        this.role = role;
+    }
+
+    public UserProfileItem(Long userId, String displayName, UserRole role) {
+        this(userId, displayName, role == null ? null : role.name());
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.demo.user.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+@Entity
+@Table(
+        name = "refresh_tokens",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_refresh_tokens_hash", columnNames = {"token_hash"})
+        },
+        indexes = {
+                @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        }
+)
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refresh_token_id", nullable = false, updatable = false)
+    private Long refreshTokenId;
+
+    // SHA-256 (hex) of the opaque token; the token itself is never stored
+    @Column(name = "token_hash", nullable = false, length = 64, updatable = false)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    private User user;
+
+    // all tokens rotated from one login share a family
+    @Column(name = "family_id", nullable = false, length = 36, updatable = false)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected RefreshToken() {
+        // for JPA
+    }
+
+    public RefreshToken(User user, String tokenHash, String familyId, Instant expiresAt) {
+        this.user = user;
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = Instant.now();
+        }
+    }
+
+    public Long getRefreshTokenId() {
+        return refreshTokenId;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Instant getRotatedAt() {
+        return rotatedAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.demo.user.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(
+        name = "revoked_tokens",
+        indexes = {
+                @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+        }
+)
+public class RevokedToken {
+
+    @Id
+    @Column(name = "jti", nullable = false, length = 36, updatable = false)
+    private String jti;
+
+    // who the token belonged to, when known; kept for auditing only
+    @Column(name = "user_id", updatable = false)
+    private Long userId;
+
+    // the revoked token's own exp: past it the row is no longer needed
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private Instant revokedAt;
+
+    protected RevokedToken() {
+        // for JPA
+    }
+
+    public RevokedToken(String jti, Long userId, Instant expiresAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    void prePersist() {
+        if (this.revokedAt == null) {
+            this.revokedAt = Instant.now();
+        }
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.demo.user.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -14,8 +15,19 @@ import jakarta.persistence.UniqueConstraint;
 import java.time.Instant;
 import java.util.Locale;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+/**
+ * Second-level cached by id and by email: users are read on every login and registration
+ * check but almost never change. See {@code SecondLevelCacheConfig}.
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.EMAIL_CACHE_REGION)
 @Table(
         name = "users",
         uniqueConstraints = {
@@ -24,11 +36,16 @@ import java.util.Locale;
 )
 public class User {
 
+    public static final String CACHE_REGION = "users";
+    public static final String EMAIL_CACHE_REGION = "users-by-email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id", nullable = false, updatable = false)
     private Long userId;
 
+    // immutable after insert; normalized (trimmed, lower-cased) before it is used as a key
+    @NaturalId
     @Column(name = "email", nullable = false, length = 100)
     private String email;
 
@@ -0,0 +1,15 @@
+package org.example.demo.user.exception;
+
+import org.example.demo.common.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidTokenException extends ApiException {
+
+    /**
+     * @param code TOKEN_INVALID, TOKEN_EXPIRED, TOKEN_REVOKED, REFRESH_TOKEN_INVALID or
+     *             REFRESH_TOKEN_EXPIRED
+     */
+    public InvalidTokenException(String code) {
+        super(HttpStatus.UNAUTHORIZED, "AUTHENTICATION_FAILED", code);
+    }
+}
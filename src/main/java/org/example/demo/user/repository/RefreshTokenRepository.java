@@ -0,0 +1,30 @@
+package org.example.demo.user.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.example.demo.user.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // one indexed lookup (uk_refresh_tokens_hash) that also brings the user via its primary key
+    @Query("select t from RefreshToken t join fetch t.user where t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // compare-and-set, so two concurrent refreshes with the same token cannot both rotate it
+    @Modifying
+    @Query("update RefreshToken t set t.rotatedAt = :now where t.refreshTokenId = :id and t.rotatedAt is null")
+    int markRotated(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
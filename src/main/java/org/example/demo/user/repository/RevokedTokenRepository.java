@@ -0,0 +1,24 @@
+package org.example.demo.user.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.example.demo.user.entity.RevokedToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // keyset scan of still-relevant jtis, for rebuilding the revocation filter
+    @Query("select t.jti from RevokedToken t where t.expiresAt > :now and t.jti > :afterJti order by t.jti")
+    List<String> findActiveJtisAfter(@Param("now") Instant now, @Param("afterJti") String afterJti, Pageable limit);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
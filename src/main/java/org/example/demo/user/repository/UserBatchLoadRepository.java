@@ -0,0 +1,14 @@
+package org.example.demo.user.repository;
+
+import java.util.List;
+
+import org.example.demo.user.entity.User;
+
+/** Loads of many users by id, served from the second-level cache when possible. */
+public interface UserBatchLoadRepository {
+
+    /**
+     * @return one element per id, in the same order; null where no user has that id
+     */
+    List<User> findAllByIdCached(List<Long> ids);
+}
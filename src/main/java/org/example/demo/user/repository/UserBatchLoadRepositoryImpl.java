@@ -0,0 +1,44 @@
+package org.example.demo.user.repository;
+
+import java.util.List;
+
+import org.example.demo.user.entity.User;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Multi-load: ids already in the entity cache cost no SQL and the rest are fetched with one
+ * {@code IN} query, which also puts them in the cache. An update or delete through JPA evicts
+ * the cached entity, so only another node's change can go unseen, for at most
+ * {@code app.users.cache.ttl-seconds}. Sessions are handled like {@link UserNaturalIdRepositoryImpl}.
+ */
+class UserBatchLoadRepositoryImpl implements UserBatchLoadRepository {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SessionFactory sessionFactory;
+
+    UserBatchLoadRepositoryImpl(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public List<User> findAllByIdCached(List<Long> ids) {
+        EntityManager bound = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (bound != null) {
+            return load(bound.unwrap(Session.class), ids);
+        }
+        try (Session session = sessionFactory.openSession()) {
+            return load(session, ids);
+        }
+    }
+
+    private static List<User> load(Session session, List<Long> ids) {
+        // one batch for the whole request; the caller caps the id count
+        return session.byMultipleIds(User.class).withBatchSize(Math.max(1, ids.size())).multiLoad(ids);
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.demo.user.repository;
+
+import java.util.Optional;
+
+import org.example.demo.user.entity.User;
+
+/** Lookups by the {@code email} natural id, served from the second-level cache when possible. */
+public interface UserNaturalIdRepository {
+
+    /** @param email normalized (trimmed, lower-cased) */
+    Optional<User> findByEmail(String email);
+}
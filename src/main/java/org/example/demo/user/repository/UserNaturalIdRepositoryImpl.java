@@ -0,0 +1,40 @@
+package org.example.demo.user.repository;
+
+import java.util.Optional;
+
+import org.example.demo.user.entity.User;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Resolves the email through the natural-id cache, then loads the user from the entity cache,
+ * so a warm lookup runs no SQL. A derived {@code findByEmail} query would always hit the
+ * database. Outside a transaction (login and registration run without one) a short session is
+ * opened; it only borrows a pooled connection on a cache miss.
+ */
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SessionFactory sessionFactory;
+
+    UserNaturalIdRepositoryImpl(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        // join the caller's transaction (or open-in-view session) when there is one
+        EntityManager bound = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (bound != null) {
+            return bound.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(email);
+        }
+        try (Session session = sessionFactory.openSession()) {
+            return session.bySimpleNaturalId(User.class).loadOptional(email);
+        }
+    }
+}
@@ -1,11 +1,32 @@
 package org.example.demo.user.repository;
 
-import java.util.Optional;
+import java.util.List;
 
 import org.example.demo.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+// findByEmail and findAllByIdCached come from fragments that read through the second-level cache
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository, UserBatchLoadRepository {
 
-    Optional<User> findByEmail(String email);
+    interface EmailRow {
+        Long getUserId();
+
+        String getEmail();
+    }
+
+    // keyset scan of all emails, for loading the registration email filter
+    @Query("select u.userId as userId, u.email as email from User u where u.userId > :afterId order by u.userId")
+    List<EmailRow> findEmailsAfterId(@Param("afterId") long afterId, Pageable limit);
+
+    // compare-and-set on the old hash, so a password changed in the meantime is never overwritten.
+    // Being a bulk update, it also evicts the users cache region; rehashes are rare enough for that.
+    @Modifying
+    @Transactional
+    @Query("update User u set u.passwordHash = :newHash where u.userId = :userId and u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("userId") Long userId, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
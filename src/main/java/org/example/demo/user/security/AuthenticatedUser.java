@@ -0,0 +1,66 @@
+package org.example.demo.user.security;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.example.demo.user.entity.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Security principal built from the access token claims alone ({@code sub}, {@code role},
+ * {@code displayName}); no database lookup is involved. {@code tokenId} ({@code jti}) and
+ * {@code expiresAt} identify the presented token, for logout.
+ */
+public class AuthenticatedUser {
+
+    private final long userId;
+    private final String displayName;
+    private final UserRole role;
+    private final List<GrantedAuthority> authorities;
+    private final String tokenId;
+    private final Instant expiresAt;
+
+    public AuthenticatedUser(long userId, String displayName, UserRole role) {
+        this(userId, displayName, role, null, null);
+    }
+
+    public AuthenticatedUser(long userId, String displayName, UserRole role, String tokenId, Instant expiresAt) {
+        this.userId = userId;
+        this.displayName = displayName;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /** @return the token's {@code jti}, or null for tokens issued before it was added */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{userId=" + userId + ", role=" + role + "}";
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.demo.user.security;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import org.example.demo.common.api.ErrorResponse;
+import org.example.demo.common.api.ErrorResponseTemplates;
+import org.example.demo.common.metrics.ErrorCodeObservationConvention;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/** Writes an {@link ErrorResponse} from filters, which run before {@code GlobalExceptionHandler}. */
+final class ErrorResponseWriter {
+
+    private ErrorResponseWriter() {
+    }
+
+    static void write(HttpServletRequest request, HttpServletResponse response,
+                      HttpStatus status, String message, String code) throws IOException {
+        request.setAttribute(ErrorCodeObservationConvention.CODE_ATTRIBUTE, code);
+        byte[] body = ErrorResponseTemplates.render(status, message, code, request.getRequestURI(), Instant.now());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
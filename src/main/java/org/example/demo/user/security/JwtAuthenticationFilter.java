@@ -0,0 +1,54 @@
+package org.example.demo.user.security;
+
+import java.io.IOException;
+
+import org.example.demo.user.exception.InvalidTokenException;
+import org.example.demo.user.service.JwtTokenService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates {@code Authorization: Bearer <token>} requests from the token alone. A bad
+ * token does not fail the request here: it stays anonymous, public routes still work, and
+ * {@link SecurityErrorHandler} reports the recorded code if the route needs authentication.
+ * Not a {@code @Component}, so it only runs inside the security filter chain.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    static final String TOKEN_ERROR_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".TOKEN_ERROR";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenService jwtTokenService;
+
+    public JwtAuthenticationFilter(JwtTokenService jwtTokenService) {
+        this.jwtTokenService = jwtTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            String token = header.substring(BEARER_PREFIX.length()).trim();
+            try {
+                AuthenticatedUser user = jwtTokenService.verify(token);
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(
+                        UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+                SecurityContextHolder.setContext(context);
+            } catch (InvalidTokenException e) {
+                request.setAttribute(TOKEN_ERROR_ATTRIBUTE, e.getCode());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.demo.user.security;
+
+import java.io.IOException;
+
+import org.example.demo.user.service.LoginThrottle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Throttles {@code POST /users/login} by client IP through {@link LoginThrottle} before the
+ * request reaches the controller, so a rejected attempt costs no body parsing, bean validation,
+ * user lookup or BCrypt. The per-email bucket is applied by {@code UserService} to the email the
+ * body actually binds to. The client IP is {@code getRemoteAddr()}: behind a proxy, enable
+ * {@code server.forward-headers-strategy} rather than trusting raw forwarding headers here.
+ */
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private final LoginThrottle loginThrottle;
+
+    public LoginThrottleFilter(LoginThrottle loginThrottle) {
+        this.loginThrottle = loginThrottle;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !("POST".equals(request.getMethod()) && "/users/login".equals(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long waitNanos = loginThrottle.tryAcquireIp(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(LoginThrottle.retryAfterSeconds(waitNanos)));
+            ErrorResponseWriter.write(request, response, HttpStatus.TOO_MANY_REQUESTS,
+                    "TOO_MANY_REQUESTS", "TOO_MANY_LOGIN_ATTEMPTS");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
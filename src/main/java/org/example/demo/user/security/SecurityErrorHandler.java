@@ -0,0 +1,36 @@
+package org.example.demo.user.security;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Renders security rejections in the same {@code ErrorResponse} shape as
+ * {@code GlobalExceptionHandler}: 401 with TOKEN_REQUIRED / TOKEN_INVALID / TOKEN_EXPIRED / TOKEN_REVOKED,
+ * and 403 FORBIDDEN for an authenticated user without the required role.
+ */
+@Component
+public class SecurityErrorHandler implements AuthenticationEntryPoint, AccessDeniedHandler {
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException)
+            throws IOException {
+        Object tokenError = request.getAttribute(JwtAuthenticationFilter.TOKEN_ERROR_ATTRIBUTE);
+        String code = tokenError != null ? tokenError.toString() : "TOKEN_REQUIRED";
+        ErrorResponseWriter.write(request, response, HttpStatus.UNAUTHORIZED, "AUTHENTICATION_FAILED", code);
+    }
+
+    @Override
+    public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException)
+            throws IOException {
+        ErrorResponseWriter.write(request, response, HttpStatus.FORBIDDEN, "FORBIDDEN", "FORBIDDEN");
+    }
+}
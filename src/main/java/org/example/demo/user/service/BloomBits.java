@@ -0,0 +1,72 @@
+package org.example.demo.user.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe Bloom filter bit array over strings. Sized for
+ * {@code expectedInsertions} at false-positive rate {@code fpp}; past that size it only gets
+ * less selective, never wrong. Adds are lock-free and may race with reads.
+ */
+final class BloomBits {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomBits(long expectedInsertions, double fpp) {
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (m + 63) >>> 6));
+        this.bitCount = (long) bits.length() << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+    }
+
+    /** @return false only if {@code value} was certainly never added */
+    boolean mightContain(String value) {
+        long h = fnv1a64(value);
+        long h1 = mix64(h);
+        long h2 = mix64(h ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void put(String value) {
+        long h = fnv1a64(value);
+        long h1 = mix64(h);
+        long h2 = mix64(h ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            bits.getAndUpdate((int) (bit >>> 6), w -> w | mask);
+        }
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private static long fnv1a64(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // MurmurHash3 fmix64 finalizer
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.demo.user.service;
+
+import java.util.List;
+
+import org.example.demo.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter over registered (normalized) emails. A negative answer means the email is
+ * certainly not registered through this node's view, so registration can skip the lookup; a
+ * positive answer means "maybe" and still needs the database. {@code uk_users_email} remains
+ * the source of truth: a registration from another node, or one racing this load, shows up
+ * as a constraint violation at insert time.
+ * <p>
+ * Sized for {@code app.users.email-filter.expected-insertions} at false-positive rate
+ * {@code fpp}; past that size it only gets less selective, never wrong. Until the initial load
+ * completes every email is reported as a possible member.
+ */
+@Component
+public class EmailBloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailBloomFilter.class);
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final BloomBits bits;
+    private volatile boolean ready;
+
+    public EmailBloomFilter(
+            UserRepository userRepository,
+            @Value("${app.users.email-filter.enabled:true}") boolean enabled,
+            @Value("${app.users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.users.email-filter.fpp:0.01}") double fpp
+    ) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.bits = enabled ? new BloomBits(expectedInsertions, fpp) : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        load();
+    }
+
+    /** Adds every email in the users table, then starts answering negatives. */
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long afterId = 0;
+        long loaded = 0;
+        try {
+            List<UserRepository.EmailRow> page;
+            do {
+                page = userRepository.findEmailsAfterId(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (UserRepository.EmailRow row : page) {
+                    put(row.getEmail());
+                    afterId = row.getUserId();
+                }
+                loaded += page.size();
+            } while (page.size() == LOAD_PAGE_SIZE);
+        } catch (DataAccessException ex) {
+            // stay not-ready: registration keeps doing the lookup
+            log.warn("email filter load failed after {} rows", loaded, ex);
+            return;
+        }
+        ready = true;
+        log.info("email filter loaded {} emails in {} ms ({} bits, {} hashes)",
+                loaded, (System.nanoTime() - start) / 1_000_000, bits.bitCount(), bits.hashCount());
+    }
+
+    /** @return false only if {@code email} was certainly never added */
+    public boolean mightContain(String email) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        return bits.mightContain(email);
+    }
+
+    public void put(String email) {
+        if (!enabled) {
+            return;
+        }
+        bits.put(email);
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+}
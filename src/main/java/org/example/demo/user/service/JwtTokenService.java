@@ -3,44 +3,153 @@ package org.example.demo.user.service;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+import javax.crypto.SecretKey;
+
+import org.example.demo.common.metrics.ServerTiming;
 import org.example.demo.user.entity.User;
+import org.example.demo.user.entity.UserRole;
+import org.example.demo.user.exception.InvalidTokenException;
+import org.example.demo.user.security.AuthenticatedUser;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
 public class JwtTokenService {
 
-    private final String secret;
+    private final SecretKey key;
+    private final JwtParser parser;
     private final long ttlSeconds;
+    private final VerifiedTokenCache verifiedTokens;
+    private final TokenRevocationService revocations;
+    private final Timer signTimer;
 
     public JwtTokenService(
             @Value("${app.jwt.secret}") String secret,
-            @Value("${app.jwt.ttl-seconds:3600}") long ttlSeconds
+            @Value("${app.jwt.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${app.jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries,
+            TokenRevocationService revocations,
+            MeterRegistry meterRegistry
     ) {
-        this.secret = secret;
-        this.ttlSeconds = ttlSeconds;
-    }
-
-    public String generateAccessToken(User user) {
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         if (keyBytes.length < 32) {
             throw new IllegalStateException("app.jwt.secret must be at least 32 bytes for HS256");
         }
+        // derived once; signing and verification reuse the same key and parser
+        this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.ttlSeconds = ttlSeconds;
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheMaxEntries);
+        this.revocations = revocations;
+        this.signTimer = Timer.builder("jwt.sign.duration")
+                .description("Access-token signing (HS256)")
+                .register(meterRegistry);
+    }
 
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public String generateAccessToken(User user) {
+        TokenIssuedEvent event = new TokenIssuedEvent();
+        event.begin();
+        long start = System.nanoTime();
         Instant now = Instant.now();
         Instant exp = now.plusSeconds(ttlSeconds);
 
-        return Jwts.builder()
+        String token = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(user.getUserId()))
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(exp))
                 .claim("displayName", user.getDisplayName())
                 .claim("role", user.getRole().name())
-                .signWith(Keys.hmacShaKeyFor(keyBytes), Jwts.SIG.HS256)
+                .signWith(key, Jwts.SIG.HS256)
                 .compact();
+        long nanos = System.nanoTime() - start;
+        signTimer.record(nanos, TimeUnit.NANOSECONDS);
+        ServerTiming.add(ServerTiming.Stage.JWT, nanos);
+        event.end();
+        if (event.shouldCommit()) {
+            event.tokenType = TokenIssuedEvent.ACCESS;
+            event.userId = user.getUserId();
+            event.commit();
+        }
+        return token;
+    }
+
+    /**
+     * Verifies an access token and returns its principal. A token seen before is answered from
+     * the verified-token cache until it expires, without recomputing the HMAC or parsing JSON.
+     * Revocation is checked on every call, cached or not.
+     *
+     * @throws InvalidTokenException TOKEN_EXPIRED, TOKEN_REVOKED or TOKEN_INVALID
+     */
+    public AuthenticatedUser verify(String token) {
+        long start = ServerTiming.start();
+        try {
+            return verifyToken(token);
+        } finally {
+            ServerTiming.stop(ServerTiming.Stage.JWT, start);
+        }
+    }
+
+    private AuthenticatedUser verifyToken(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedTokenCache.Entry cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (cached.getExpiresAtMillis() > now) {
+                return checkNotRevoked(cached.getPrincipal());
+            }
+            verifiedTokens.remove(token);
+            throw new InvalidTokenException("TOKEN_EXPIRED");
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new InvalidTokenException("TOKEN_EXPIRED");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("TOKEN_INVALID");
+        }
+
+        Date exp = claims.getExpiration();
+        if (exp == null) {
+            throw new InvalidTokenException("TOKEN_INVALID");
+        }
+        AuthenticatedUser principal;
+        try {
+            principal = new AuthenticatedUser(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("displayName", String.class),
+                    UserRole.valueOf(claims.get("role", String.class)),
+                    claims.getId(),
+                    exp.toInstant());
+        } catch (RuntimeException e) {
+            // missing/malformed sub or role: signed by us, but not an access token we issue
+            throw new InvalidTokenException("TOKEN_INVALID");
+        }
+        verifiedTokens.put(token, principal, exp.getTime(), now);
+        return checkNotRevoked(principal);
+    }
+
+    // tokens issued before jti was added cannot be revoked; they expire within one TTL
+    private AuthenticatedUser checkNotRevoked(AuthenticatedUser principal) {
+        if (principal.getTokenId() != null && revocations.isRevoked(principal.getTokenId())) {
+            throw new InvalidTokenException("TOKEN_REVOKED");
+        }
+        return principal;
     }
 }
@@ -0,0 +1,25 @@
+package org.example.demo.user.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** One {@link UserService#loginUser} call. */
+@Name("org.example.demo.Login")
+@Label("Login")
+@Category({"Demo", "Users"})
+@StackTrace(false)
+final class LoginEvent extends jdk.jfr.Event {
+
+    @Label("Hash Duration")
+    @Description("Waiting for and running the BCrypt check; 0 when it never ran")
+    @Timespan(Timespan.NANOSECONDS)
+    long hashDuration;
+
+    @Label("Outcome")
+    @Description("SUCCESS, UNKNOWN_EMAIL, BAD_PASSWORD, or the error code that rejected the attempt")
+    String outcome;
+}
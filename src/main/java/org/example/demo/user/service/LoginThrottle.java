@@ -0,0 +1,151 @@
+package org.example.demo.user.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token buckets for {@code POST /users/login}, one per client IP and one per normalized email.
+ * Each bucket is a single {@link AtomicLong} updated by CAS (GCRA form: the stored value is the
+ * time at which the bucket will be full again), so checking an attempt takes no lock and no
+ * allocation once the key is known. A bucket whose refill time has passed holds no information
+ * and is dropped by {@link #evictIdle()}; {@code max-keys} caps each map in between sweeps. A key
+ * that arrives while its map is full is let through by that map (fail open): the other bucket
+ * still applies, so an email spray leaves the IP limit in force.
+ * <p>
+ * The IP bucket is checked by {@code LoginThrottleFilter} before the body is read; the email
+ * bucket by {@link UserService} on the bound, normalized email, before the lookup and BCrypt,
+ * so it charges exactly the account whose password is tried.
+ */
+@Component
+public class LoginThrottle {
+
+    static final class Limiter {
+        private final long intervalNanos;
+        private final long capacityNanos;
+        private final int maxKeys;
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+        Limiter(int burst, long refillSeconds, int maxKeys) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(refillSeconds);
+            this.capacityNanos = burst * intervalNanos;
+            this.maxKeys = maxKeys;
+        }
+
+        /** @return 0 if a token was taken, else nanoseconds until one is available */
+        long tryAcquire(String key, long now) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket == null) {
+                // a full table is never emptied by a new key: live buckets are only dropped once
+                // they have refilled, so a spray of keys cannot reset a bucket under attack. Nor
+                // do new keys share a bucket, which would let the spray lock out every new user:
+                // they go unthrottled by this limiter until the sweep frees room.
+                if (buckets.size() >= maxKeys) {
+                    return 0;
+                }
+                bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+            }
+            while (true) {
+                long fullAt = bucket.get();
+                long next = (fullAt - now > 0 ? fullAt : now) + intervalNanos;
+                long over = next - now - capacityNanos;
+                if (over > 0) {
+                    return over;
+                }
+                if (bucket.compareAndSet(fullAt, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        void reset(String key) {
+            buckets.remove(key);
+        }
+
+        void evictIdle(long now) {
+            buckets.values().removeIf(b -> b.get() - now <= 0);
+        }
+
+        int size() {
+            return buckets.size();
+        }
+    }
+
+    private final NormalizerService normalizerService;
+    private final boolean enabled;
+    private final Limiter byIp;
+    private final Limiter byEmail;
+
+    public LoginThrottle(
+            NormalizerService normalizerService,
+            @Value("${app.login.throttle.enabled:true}") boolean enabled,
+            @Value("${app.login.throttle.ip.burst:20}") int ipBurst,
+            @Value("${app.login.throttle.ip.refill-seconds:3}") long ipRefillSeconds,
+            @Value("${app.login.throttle.email.burst:5}") int emailBurst,
+            @Value("${app.login.throttle.email.refill-seconds:60}") long emailRefillSeconds,
+            @Value("${app.login.throttle.max-keys:100000}") int maxKeys
+    ) {
+        this.normalizerService = normalizerService;
+        this.enabled = enabled;
+        this.byIp = new Limiter(ipBurst, ipRefillSeconds, maxKeys);
+        this.byEmail = new Limiter(emailBurst, emailRefillSeconds, maxKeys);
+    }
+
+    /**
+     * Takes one token from the client IP's bucket.
+     *
+     * @return 0 when the attempt may proceed, else nanoseconds until it would be allowed
+     */
+    public long tryAcquireIp(String clientIp) {
+        if (!enabled || clientIp == null) {
+            return 0;
+        }
+        return byIp.tryAcquire(clientIp, System.nanoTime());
+    }
+
+    /**
+     * Takes one token from the email's bucket. Pass the email the password is checked against.
+     *
+     * @return 0 when the attempt may proceed, else nanoseconds until it would be allowed
+     */
+    public long tryAcquireEmail(String email) {
+        if (!enabled) {
+            return 0;
+        }
+        String key = normalizerService.normalizeEmail(email);
+        return key == null || key.isEmpty() ? 0 : byEmail.tryAcquire(key, System.nanoTime());
+    }
+
+    /** Whole seconds for {@code Retry-After}, rounded up and at least 1. */
+    public static long retryAfterSeconds(long waitNanos) {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        return Math.max(1, (waitNanos + second - 1) / second);
+    }
+
+    /** A successful login refills the account's bucket, so earlier typos do not count against it. */
+    public void onSuccess(String email) {
+        String key = normalizerService.normalizeEmail(email);
+        if (key != null) {
+            byEmail.reset(key);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.login.throttle.sweep-ms:30000}", initialDelayString = "${app.login.throttle.sweep-ms:30000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        byIp.evictIdle(now);
+        byEmail.evictIdle(now);
+    }
+
+    Limiter ipLimiter() {
+        return byIp;
+    }
+
+    Limiter emailLimiter() {
+        return byEmail;
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.demo.user.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.demo.common.exception.InternalErrorException;
+import org.example.demo.common.exception.RetryLaterException;
+import org.example.demo.common.metrics.ServerTiming;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs BCrypt hashing and matching on a dedicated pool sized to the CPU count, off the Tomcat
+ * request threads. The queue is bounded and callers wait at most {@code wait-timeout-ms} for a
+ * worker; past either limit the request is shed with 503 + {@code Retry-After} instead of
+ * queueing without bound. Metrics: {@code password.hashing.queue.size},
+ * {@code password.hashing.active}, {@code password.hashing.duration} (tag {@code operation}),
+ * {@code password.hashing.queue.wait} and {@code password.hashing.rejected} (tag {@code reason}).
+ * <p>
+ * The workers stay platform threads in virtual-thread mode: hashing is CPU-bound, and this
+ * pool's size is what keeps it from starving request handling.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedDeadline;
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.password.hashing.threads:0}") int threads,
+            @Value("${app.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.password.hashing.wait-timeout-ms:2000}") long waitTimeoutMillis,
+            @Value("${app.password.hashing.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        // AbortPolicy: a full queue rejects immediately rather than running on the caller thread
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "password-hash-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Hash/match tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Workers currently hashing")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration").tag("operation", "matches").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait").register(meterRegistry);
+        this.rejectedQueueFull = Counter.builder("password.hashing.rejected").tag("reason", "queue_full").register(meterRegistry);
+        this.rejectedDeadline = Counter.builder("password.hashing.rejected").tag("reason", "deadline").register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /** Cheap format/cost check; does not hash, so it runs on the caller thread. */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Opportunistic background hash for work nobody is waiting on: queued only while no request
+     * is waiting for a worker, so it never delays or sheds user-facing hashing.
+     *
+     * @return the pending hash, or null when the pool is busy and the work was skipped
+     */
+    public CompletableFuture<String> encodeWhenIdle(CharSequence rawPassword) {
+        if (!executor.getQueue().isEmpty()) {
+            return null;
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)), executor);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Timer workTimer, Callable<T> work) {
+        long submittedAt = System.nanoTime();
+        try {
+            return submitAndWait(workTimer, work, submittedAt);
+        } finally {
+            // the caller's view: queue wait included
+            ServerTiming.stop(ServerTiming.Stage.BCRYPT, submittedAt);
+        }
+    }
+
+    private <T> T submitAndWait(Timer workTimer, Callable<T> work, long submittedAt) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return workTimer.recordCallable(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // cancel() also succeeds on a running task; only removal from the queue proves it never started
+            if (executor.remove((Runnable) future)) {
+                // still queued: dropping it frees the slot for a caller that is still waiting
+                future.cancel(false);
+                rejectedDeadline.increment();
+                throw busy();
+            }
+            // already running; it finishes within one hash time
+            return await(future);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new InternalErrorException();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalErrorException();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException re ? re : new InternalErrorException();
+    }
+
+    private RetryLaterException busy() {
+        return new RetryLaterException(HttpStatus.SERVICE_UNAVAILABLE, "SERVER_BUSY", retryAfterSeconds);
+    }
+}
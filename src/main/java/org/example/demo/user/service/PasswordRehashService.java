@@ -0,0 +1,111 @@
+package org.example.demo.user.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.example.demo.user.entity.User;
+import org.example.demo.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Transparent rehash on login: after a successful password check, a hash the encoder reports as
+ * stale (below the calibrated cost, or in the legacy un-prefixed format) is recomputed in the
+ * background and saved. The login response never waits for it; if the hashing pool is busy the
+ * upgrade is simply retried at the user's next login. The UPDATE runs on one dedicated thread with
+ * a bounded queue ({@code app.password.rehash.queue-capacity}), so it never takes a hashing worker
+ * or a shared pool; a full queue skips the upgrade like a busy hashing pool does. Outcomes are
+ * counted in {@code password.rehash} (tag {@code result}).
+ */
+@Component
+public class PasswordRehashService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    private final PasswordHashingExecutor passwordHashing;
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor updates;
+    private final Counter upgraded;
+    private final Counter skippedBusy;
+    private final Counter conflicted;
+    private final Counter failed;
+
+    public PasswordRehashService(
+            PasswordHashingExecutor passwordHashing,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.password.rehash.queue-capacity:256}") int queueCapacity
+    ) {
+        this.passwordHashing = passwordHashing;
+        this.userRepository = userRepository;
+        this.updates = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "password-rehash");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.upgraded = Counter.builder("password.rehash").tag("result", "upgraded").register(meterRegistry);
+        this.skippedBusy = Counter.builder("password.rehash").tag("result", "busy").register(meterRegistry);
+        this.conflicted = Counter.builder("password.rehash").tag("result", "conflict").register(meterRegistry);
+        this.failed = Counter.builder("password.rehash").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * @param rawPassword the password that was just verified against {@code user}'s hash
+     */
+    public void rehashIfStale(User user, String rawPassword) {
+        String oldHash = user.getPasswordHash();
+        if (!passwordHashing.upgradeEncoding(oldHash)) {
+            return;
+        }
+        CompletableFuture<String> newHash = passwordHashing.encodeWhenIdle(rawPassword);
+        if (newHash == null) {
+            skippedBusy.increment();
+            return;
+        }
+        Long userId = user.getUserId();
+        // hand-off only on the hashing worker: it never waits for a DB connection
+        newHash.whenComplete((hash, ex) -> {
+            if (ex != null) {
+                fail(userId, ex);
+                return;
+            }
+            try {
+                updates.execute(() -> save(userId, oldHash, hash));
+            } catch (RejectedExecutionException e) {
+                skippedBusy.increment();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updates.shutdownNow();
+    }
+
+    private void save(Long userId, String oldHash, String newHash) {
+        try {
+            if (userRepository.updatePasswordHash(userId, oldHash, newHash) == 1) {
+                upgraded.increment();
+            } else {
+                conflicted.increment();
+            }
+        } catch (RuntimeException ex) {
+            fail(userId, ex);
+        }
+    }
+
+    private void fail(Long userId, Throwable ex) {
+        failed.increment();
+        log.warn("password rehash failed for user {}", userId, ex);
+    }
+}
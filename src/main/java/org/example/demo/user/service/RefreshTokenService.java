@@ -0,0 +1,126 @@
+package org.example.demo.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.example.demo.user.dto.LoginResponse;
+import org.example.demo.user.entity.RefreshToken;
+import org.example.demo.user.entity.User;
+import org.example.demo.user.exception.InvalidTokenException;
+import org.example.demo.user.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Opaque, rotating refresh tokens. A refresh is one indexed lookup by token hash (joined to
+ * the user) plus the rotation writes; no password hashing and no {@code findByEmail}. Each use
+ * rotates the token. Presenting an already-rotated token means it was copied, so the whole
+ * family (every token descended from the same login) is revoked.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenService jwtTokenService;
+    private final long ttlSeconds;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtTokenService jwtTokenService,
+            @Value("${app.jwt.refresh-ttl-seconds:1209600}") long ttlSeconds
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenService = jwtTokenService;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /** Starts a new token family for a fresh login and returns the opaque token. */
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString(), Instant.now());
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token. The replay
+     * revocation must survive the 401, hence no rollback for {@link InvalidTokenException}.
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public LoginResponse refresh(String presentedToken) {
+        RefreshToken current = refreshTokenRepository.findWithUserByTokenHash(hash(presentedToken))
+                .orElseThrow(() -> new InvalidTokenException("REFRESH_TOKEN_INVALID"));
+        Instant now = Instant.now();
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new InvalidTokenException("REFRESH_TOKEN_EXPIRED");
+        }
+        if (current.getRotatedAt() != null || refreshTokenRepository.markRotated(current.getRefreshTokenId(), now) == 0) {
+            refreshTokenRepository.deleteFamily(current.getFamilyId());
+            log.warn("rotated refresh token replayed; revoked family {} of user {}",
+                    current.getFamilyId(), current.getUser().getUserId());
+            throw new InvalidTokenException("REFRESH_TOKEN_INVALID");
+        }
+
+        User user = current.getUser();
+        String next = issue(user, current.getFamilyId(), now);
+        String accessToken = jwtTokenService.generateAccessToken(user);
+        return new LoginResponse(user.getUserId(), user.getDisplayName(), user.getRole().name(), accessToken, next);
+    }
+
+    /**
+     * Logout: revokes the family of {@code presentedToken} if it belongs to {@code userId}.
+     * Unknown tokens are ignored, so logging out twice is harmless.
+     */
+    @Transactional
+    public void revoke(String presentedToken, long userId) {
+        refreshTokenRepository.findWithUserByTokenHash(hash(presentedToken))
+                .filter(t -> t.getUser().getUserId() == userId)
+                .ifPresent(t -> refreshTokenRepository.deleteFamily(t.getFamilyId()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.refresh-cleanup-ms:3600000}", initialDelayString = "${app.jwt.refresh-cleanup-ms:3600000}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(User user, String familyId, Instant now) {
+        TokenIssuedEvent event = new TokenIssuedEvent();
+        event.begin();
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(user, hash(token), familyId, now.plusSeconds(ttlSeconds)));
+        event.end();
+        if (event.shouldCommit()) {
+            event.tokenType = TokenIssuedEvent.REFRESH;
+            event.userId = user.getUserId();
+            event.commit();
+        }
+        return token;
+    }
+
+    // a plain digest is enough: the token is 256 random bits, so there is nothing to brute-force
+    static String hash(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.demo.user.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** An access token signed or a refresh token stored; its duration is the event's own. */
+@Name("org.example.demo.TokenIssued")
+@Label("Token Issued")
+@Category({"Demo", "Users"})
+@StackTrace(false)
+final class TokenIssuedEvent extends jdk.jfr.Event {
+
+    static final String ACCESS = "access";
+    static final String REFRESH = "refresh";
+
+    @Label("Token Type")
+    String tokenType;
+
+    @Label("User Id")
+    long userId;
+}
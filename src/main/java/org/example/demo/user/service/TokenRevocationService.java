@@ -0,0 +1,199 @@
+package org.example.demo.user.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.example.demo.user.entity.RevokedToken;
+import org.example.demo.user.repository.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Revoked access tokens ({@code jti}), checked on every authenticated request. The
+ * {@code revoked_tokens} table is the source of truth; in front of it sit
+ * <ul>
+ *   <li>a Bloom filter of every unexpired jti, rebuilt from the table every
+ *       {@code app.jwt.revocation.refresh-ms}, so a token that was never revoked costs a few
+ *       hash probes and no query, and</li>
+ *   <li>the jtis this node revoked or confirmed since, kept until their {@code exp}.</li>
+ * </ul>
+ * A filter hit is confirmed against the table by primary key; a hit the table denies (a false
+ * positive) is remembered as not revoked until the next rebuild, so the same token does not
+ * query again on every request. Revocations made on another node are seen at the next rebuild.
+ * <p>
+ * A check that arrives before the first load waits for it, and only one caller runs it. If
+ * that load fails, checks go to the table until a scheduled rebuild succeeds.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    /** One rebuilt filter and the false positives confirmed against it. */
+    private static final class Generation {
+        private final BloomBits filter;
+        private final Set<String> notRevoked = ConcurrentHashMap.newKeySet();
+        private final long maxNotRevoked;
+
+        Generation(BloomBits filter, long maxNotRevoked) {
+            this.filter = filter;
+            this.maxNotRevoked = maxNotRevoked;
+        }
+    }
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double fpp;
+    // jti -> exp (epoch millis)
+    private final ConcurrentHashMap<String, Long> known = new ConcurrentHashMap<>();
+    private volatile Generation generation;
+    private final ReentrantLock firstLoad = new ReentrantLock();
+    private volatile boolean firstLoadFailed;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${app.jwt.revocation.enabled:true}") boolean enabled,
+            @Value("${app.jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${app.jwt.revocation.fpp:0.001}") double fpp
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        awaitFirstLoad();
+    }
+
+    /**
+     * Revokes a token until {@code expiresAt}. Idempotent: revoking the same jti twice is not
+     * an error.
+     */
+    public void revoke(String jti, Long userId, Instant expiresAt) {
+        if (!enabled || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        try {
+            revokedTokenRepository.save(new RevokedToken(jti, userId, expiresAt));
+        } catch (DataIntegrityViolationException ex) {
+            // save() looks the jti up first; only a concurrent revoke of the same token gets here
+        }
+        known.put(jti, expiresAt.toEpochMilli());
+        Generation current = generation;
+        if (current != null) {
+            current.filter.put(jti);
+            current.notRevoked.remove(jti);
+        }
+    }
+
+    /** @return true if the token with this {@code jti} has been revoked */
+    public boolean isRevoked(String jti) {
+        if (!enabled) {
+            return false;
+        }
+        if (known.containsKey(jti)) {
+            return true;
+        }
+        Generation current = generation;
+        if (current == null) {
+            current = awaitFirstLoad();
+        }
+        if (current != null && (!current.filter.mightContain(jti) || current.notRevoked.contains(jti))) {
+            return false;
+        }
+        Optional<RevokedToken> revoked = revokedTokenRepository.findById(jti);
+        if (revoked.isPresent()) {
+            known.put(jti, revoked.get().getExpiresAt().toEpochMilli());
+            return true;
+        }
+        // bounded by the filter's own size; past it, further false positives just query
+        if (current != null && current.notRevoked.size() < current.maxNotRevoked) {
+            current.notRevoked.add(jti);
+        }
+        return false;
+    }
+
+    /**
+     * Runs the first load once, holding back the checks that arrive meanwhile. A lock rather
+     * than {@code synchronized}, so waiting virtual threads do not pin their carriers.
+     *
+     * @return the loaded generation, or null when the first load failed
+     */
+    private Generation awaitFirstLoad() {
+        if (firstLoadFailed) {
+            return generation;
+        }
+        firstLoad.lock();
+        try {
+            if (generation == null && !firstLoadFailed) {
+                rebuild();
+                firstLoadFailed = generation == null;
+            }
+            return generation;
+        } finally {
+            firstLoad.unlock();
+        }
+    }
+
+    /**
+     * Builds a fresh filter from the unexpired rows, so expired jtis drop out, and publishes
+     * it. On failure the previous filter stays in use.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.refresh-ms:30000}", initialDelayString = "${app.jwt.revocation.refresh-ms:30000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        BloomBits next = new BloomBits(expectedInsertions, fpp);
+        String afterJti = "";
+        long loaded = 0;
+        try {
+            List<String> page;
+            do {
+                page = revokedTokenRepository.findActiveJtisAfter(now, afterJti, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (String jti : page) {
+                    next.put(jti);
+                    afterJti = jti;
+                }
+                loaded += page.size();
+            } while (page.size() == LOAD_PAGE_SIZE);
+        } catch (DataAccessException ex) {
+            log.warn("revocation filter rebuild failed after {} rows", loaded, ex);
+            return;
+        }
+        // revocations from this node that committed after the scan are still answered by `known`
+        generation = new Generation(next, expectedInsertions);
+        long nowMillis = now.toEpochMilli();
+        known.values().removeIf(exp -> exp <= nowMillis);
+        log.debug("revocation filter rebuilt with {} jtis in {} ms", loaded, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.cleanup-ms:3600000}", initialDelayString = "${app.jwt.revocation.cleanup-ms:3600000}")
+    public void deleteExpired() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("deleted {} expired token revocations", deleted);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.demo.user.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.example.demo.common.exception.InternalErrorException;
+import org.example.demo.user.dto.BatchUsersResponse;
+import org.example.demo.user.dto.UserProfileItem;
+import org.example.demo.user.entity.User;
+import org.example.demo.user.exception.ValidationFailedException;
+import org.example.demo.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Public profiles for many users at once, e.g. every author on a board page. Users come from
+ * {@link UserRepository#findAllByIdCached}: ids in the second-level cache cost nothing and the
+ * rest are loaded with one {@code IN} query, so a page with 50 authors is one round trip
+ * instead of 50. The entity cache is evicted on every update, so no separate invalidation is
+ * needed here.
+ */
+@Service
+public class UserProfileService {
+
+    private final UserRepository userRepository;
+    private final int maxIds;
+
+    public UserProfileService(
+            UserRepository userRepository,
+            @Value("${app.users.batch.max-ids:100}") int maxIds
+    ) {
+        this.userRepository = userRepository;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Profiles for a comma-separated id list, in request order with duplicates removed. Ids
+     * that match no user are left out rather than failing the whole batch.
+     */
+    public BatchUsersResponse getProfiles(String ids) {
+        List<Long> requested = new ArrayList<>(parseIds(ids, maxIds));
+        List<User> users;
+        try {
+            users = userRepository.findAllByIdCached(requested);
+        } catch (DataAccessException ex) {
+            throw new InternalErrorException();
+        }
+
+        List<UserProfileItem> items = new ArrayList<>(users.size());
+        for (User user : users) {
+            if (user != null) {
+                items.add(new UserProfileItem(user.getUserId(), user.getDisplayName(), user.getRole()));
+            }
+        }
+        return new BatchUsersResponse(items);
+    }
+
+    // "3,1, 3" -> [3, 1]; parsed by hand since ids are the whole request
+    static Set<Long> parseIds(String ids, int maxIds) {
+        if (ids == null || ids.isBlank()) {
+            throw new ValidationFailedException("IDS_REQUIRED");
+        }
+        Set<Long> result = new LinkedHashSet<>();
+        int start = 0;
+        while (start <= ids.length()) {
+            int end = ids.indexOf(',', start);
+            if (end < 0) {
+                end = ids.length();
+            }
+            result.add(parseId(ids, start, end));
+            if (result.size() > maxIds) {
+                throw new ValidationFailedException("TOO_MANY_IDS");
+            }
+            start = end + 1;
+        }
+        return result;
+    }
+
+    private static Long parseId(String ids, int start, int end) {
+        while (start < end && ids.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && ids.charAt(end - 1) == ' ') {
+            end--;
+        }
+        // 18 digits always fit in a long
+        if (start == end || end - start > 18) {
+            throw new ValidationFailedException("IDS_INVALID");
+        }
+        long id = 0;
+        for (int i = start; i < end; i++) {
+            char c = ids.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new ValidationFailedException("IDS_INVALID");
+            }
+            id = id * 10 + (c - '0');
+        }
+        if (id < 1) {
+            throw new ValidationFailedException("IDS_INVALID");
+        }
+        return id;
+    }
+}
@@ -1,10 +1,12 @@
 package org.example.demo.user.service;
 
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.Locale;
 import java.util.Set;
 
+import org.example.demo.common.api.ValidationCodes;
+import org.example.demo.common.exception.ApiException;
+import org.example.demo.common.exception.RetryLaterException;
+import org.example.demo.common.metrics.OperationTimer;
 import org.example.demo.user.dto.LoginRequest;
 import org.example.demo.user.dto.LoginResponse;
 import org.example.demo.user.dto.RegisterUserRequest;
@@ -14,10 +16,12 @@ import org.example.demo.user.exception.AuthenticationFailedException;
 import org.example.demo.user.exception.EmailAlreadyExistsException;
 import org.example.demo.user.exception.ValidationFailedException;
 import org.example.demo.user.repository.UserRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
@@ -27,20 +31,45 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final JwtTokenService jwtTokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
+    private final PasswordRehashService passwordRehash;
+    private final EmailBloomFilter emailFilter;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
     private final Validator validator;
     private final NormalizerService normalizerService;
-
-    public UserService(UserRepository userRepository, JwtTokenService jwtTokenService, Validator validator, NormalizerService normalizerService) {
+    private final OperationTimer registerTimer;
+    private final OperationTimer loginTimer;
+
+    public UserService(UserRepository userRepository, JwtTokenService jwtTokenService, Validator validator,
+                       NormalizerService normalizerService, PasswordHashingExecutor passwordHashing,
+                       PasswordRehashService passwordRehash, EmailBloomFilter emailFilter,
+                       RefreshTokenService refreshTokenService, LoginThrottle loginThrottle,
+                       MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.jwtTokenService = jwtTokenService;
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this.passwordHashing = passwordHashing;
+        this.passwordRehash = passwordRehash;
+        this.emailFilter = emailFilter;
+        this.refreshTokenService = refreshTokenService;
+        this.loginThrottle = loginThrottle;
         this.validator = validator;
         this.normalizerService = normalizerService;
+        this.registerTimer = new OperationTimer(meterRegistry, "user.register");
+        this.loginTimer = new OperationTimer(meterRegistry, "user.login");
     }
 
-    @Transactional
+    /**
+     * A new email costs one INSERT: {@code uk_users_email} decides uniqueness, and the email
+     * filter lets clearly new addresses skip the lookup. The lookup only runs for possible
+     * duplicates, so those are rejected before any BCrypt time is spent. No transaction
+     * surrounds the method, so no connection is held while the password is hashed.
+     */
     public RegisterUserResponse registerUser(RegisterUserRequest request) {
+        return registerTimer.record(() -> register(request));
+    }
+
+    private RegisterUserResponse register(RegisterUserRequest request) {
         // RP-001: trim inputs before validating/persisting
         if (request != null) {
             request.setEmail(normalizerService.normalizeEmail(request.getEmail()));
@@ -48,15 +77,26 @@ public class UserService {
         }
         validateOrThrow(request);
         String normalizedEmail = request.getEmail();
-        if (userRepository.findByEmail(normalizedEmail).isPresent()) {
+        if (emailFilter.mightContain(normalizedEmail) && userRepository.findByEmail(normalizedEmail).isPresent()) {
             throw new EmailAlreadyExistsException();
         }
 
         String displayName = request.getName();
-        String passwordHash = passwordEncoder.encode(request.getPassword());
+        String passwordHash = passwordHashing.encode(request.getPassword());
 
         User user = new User(normalizedEmail, passwordHash, displayName);
-        User saved = userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (isEmailConflict(ex)) {
+                // registered concurrently, or on another node after our filter was loaded
+                emailFilter.put(normalizedEmail);
+                throw new EmailAlreadyExistsException();
+            }
+            throw ex;
+        }
+        emailFilter.put(normalizedEmail);
 
         return new RegisterUserResponse(
                 saved.getUserId(),
@@ -67,89 +107,91 @@ public class UserService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // no surrounding transaction: the lookup is a single query, and a pooled connection must not
+    // be held while the password check waits for a hashing worker
     public LoginResponse loginUser(LoginRequest request) {
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        try {
+            LoginResponse response = loginTimer.record(() -> login(request, event));
+            event.outcome = "SUCCESS";
+            return response;
+        } catch (ApiException ex) {
+            if (event.outcome == null) {
+                event.outcome = ex.getCode();
+            }
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                if (event.outcome == null) {
+                    event.outcome = "UNHANDLED";
+                }
+                event.commit();
+            }
+        }
+    }
+
+    private LoginResponse login(LoginRequest request, LoginEvent event) {
         // RP-001: trim email before validating/querying
         if (request != null) {
             request.setEmail(normalizerService.normalizeEmail(request.getEmail()));
         }
         validateOrThrow(request);
         String normalizedEmail = request.getEmail();
+        // on the bound email, not a peek at the raw body: this is the account whose password is tried
+        long waitNanos = loginThrottle.tryAcquireEmail(normalizedEmail);
+        if (waitNanos > 0) {
+            throw new RetryLaterException(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_LOGIN_ATTEMPTS",
+                    LoginThrottle.retryAfterSeconds(waitNanos));
+        }
 
-        User user = userRepository.findByEmail(normalizedEmail)
-                .orElseThrow(AuthenticationFailedException::new);
-
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        User user = userRepository.findByEmail(normalizedEmail).orElse(null);
+        if (user == null) {
+            event.outcome = "UNKNOWN_EMAIL";
             throw new AuthenticationFailedException();
         }
 
-        String accessToken = jwtTokenService.generateAccessToken(user);
-        return new LoginResponse(user.getUserId(), user.getDisplayName(), user.getRole().name(), accessToken);
-    }
-
-    private void validateOrThrow(Object request) {
-        if (request == null) {
-            throw new ValidationFailedException("VALIDATION_FAILED");
-        }
-        Set<ConstraintViolation<Object>> violations = validator.validate(request);
-        if (violations.isEmpty()) {
-            return;
+        long hashStart = System.nanoTime();
+        boolean matches = passwordHashing.matches(request.getPassword(), user.getPasswordHash());
+        event.hashDuration = System.nanoTime() - hashStart;
+        if (!matches) {
+            event.outcome = "BAD_PASSWORD";
+            throw new AuthenticationFailedException();
         }
+        loginThrottle.onSuccess(normalizedEmail);
+        passwordRehash.rehashIfStale(user, request.getPassword());
 
-        String code = mapViolationToCode(violations);
-        throw new ValidationFailedException(code);
+        String accessToken = jwtTokenService.generateAccessToken(user);
+        // later renewals go through refreshTokenService.refresh and never touch BCrypt again
+        String refreshToken = refreshTokenService.issue(user);
+        return new LoginResponse(user.getUserId(), user.getDisplayName(), user.getRole().name(), accessToken,
+                refreshToken);
     }
 
-    private String mapViolationToCode(Collection<ConstraintViolation<Object>> violations) {
-
-        // Prefer `password` field violations first
-        for (ConstraintViolation<Object> v : violations) {
-            String field = v.getPropertyPath() == null ? "" : v.getPropertyPath().toString();
-            if ("password".equals(field)) {
-                return mapSingleViolation(v);
+    private static boolean isEmailConflict(DataIntegrityViolationException ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve && cve.getConstraintName() != null
+                    && cve.getConstraintName().toLowerCase(Locale.ROOT).contains("uk_users_email")) {
+                return true;
             }
-        }
-
-        // Otherwise prefer any other field-level violation
-        for (ConstraintViolation<Object> v : violations) {
-            String field = v.getPropertyPath() == null ? "" : v.getPropertyPath().toString();
-            if (field != null && !field.isBlank()) {
-                return mapSingleViolation(v);
-            }
-        }
-
-        // Fall back to class-level violations such as PasswordMatches
-        for (ConstraintViolation<Object> v : violations) {
-            String annotation = v.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
-            if ("PasswordMatches".equals(annotation)) {
-                return "INVALID_CONFIRM_PASSWORD";
+            // MySQL: Duplicate entry '...' for key 'users.uk_users_email'
+            if (t.getMessage() != null && t.getMessage().contains("uk_users_email")) {
+                return true;
             }
         }
-
-        return "VALIDATION_FAILED";
+        return false;
     }
 
-    private String mapSingleViolation(ConstraintViolation<Object> v) {
-        String annotation = v.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
-        String field = v.getPropertyPath() == null ? "" : v.getPropertyPath().toString();
-        String normalizedField = normalizeFieldForCode(field);
-
-        if ("NotBlank".equals(annotation) || "NotNull".equals(annotation)) {
-            return normalizedField + "_REQUIRED";
-        }
-        if ("Email".equals(annotation)) {
-            return "INVALID_EMAIL";
+    // the only validation of these requests: the controller does not use @Valid, because the
+    // input has to be normalized first (RP-001)
+    private void validateOrThrow(Object request) {
+        if (request == null) {
+            throw new ValidationFailedException(ValidationCodes.VALIDATION_FAILED);
         }
-
-        return "INVALID_" + normalizedField;
-    }
-
-    private String normalizeFieldForCode(String field) {
-        if (field == null || field.isBlank()) {
-            return "UNKNOWN";
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationFailedException(ValidationCodes.codeFor(request.getClass(), violations));
         }
-        return field
-                .replaceAll("([a-z])([A-Z]+)", "$1_$2")
-                .toUpperCase(Locale.ROOT);
     }
 }
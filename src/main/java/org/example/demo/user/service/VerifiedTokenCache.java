@@ -0,0 +1,73 @@
+package org.example.demo.user.service;
+
+import java.time.Duration;
+
+import org.example.demo.user.security.AuthenticatedUser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Access tokens whose signature and claims were already checked, kept until their {@code exp}.
+ * Keyed by the whole compact token, so a hit means this exact string was verified before.
+ * Bounded by a Caffeine cache: each entry expires at its own token's {@code exp}, and when
+ * the cache is full the least useful entry is evicted, so new tokens keep being cached.
+ */
+final class VerifiedTokenCache {
+
+    static final class Entry {
+        private final AuthenticatedUser principal;
+        private final long expiresAtMillis;
+
+        Entry(AuthenticatedUser principal, long expiresAtMillis) {
+            this.principal = principal;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        AuthenticatedUser getPrincipal() {
+            return principal;
+        }
+
+        long getExpiresAtMillis() {
+            return expiresAtMillis;
+        }
+    }
+
+    // null when disabled (max-entries 0)
+    private final Cache<String, Entry> entries;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.entries = maxEntries == 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(Expiry.creating((String token, Entry e) ->
+                        Duration.ofMillis(Math.max(0, e.getExpiresAtMillis() - System.currentTimeMillis()))))
+                // eviction work runs on the caller instead of the common pool; it is O(1) per write
+                .executor(Runnable::run)
+                .build();
+    }
+
+    Entry get(String token) {
+        return entries == null ? null : entries.getIfPresent(token);
+    }
+
+    void put(String token, AuthenticatedUser principal, long expiresAtMillis, long nowMillis) {
+        if (entries != null && expiresAtMillis > nowMillis) {
+            entries.put(token, new Entry(principal, expiresAtMillis));
+        }
+    }
+
+    void remove(String token) {
+        if (entries != null) {
+            entries.invalidate(token);
+        }
+    }
+
+    long size() {
+        if (entries == null) {
+            return 0;
+        }
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.demo.board.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.example.demo.board.dto.BoardItem;
+import org.example.demo.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoardCatalogTest {
+
+    private BoardNameSuggester suggester;
+    private BoardCatalog boardCatalog;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new BoardNameSuggester();
+        boardCatalog = new BoardCatalog(mock(BoardRepository.class), suggester, true, false);
+    }
+
+    @Test
+    void publish_bumps_version_only_when_content_changes() {
+        boardCatalog.publish(List.of(new BoardItem(1L, "原神", "desc1")));
+        BoardSnapshot first = boardCatalog.current();
+
+        boardCatalog.publish(List.of(new BoardItem(1L, "原神", "desc1")));
+        assertSame(first, boardCatalog.current());
+
+        boardCatalog.publish(List.of(new BoardItem(1L, "原神", "desc1"), new BoardItem(2L, "程式", "desc2")));
+        assertEquals(first.getVersion() + 1, boardCatalog.current().getVersion());
+    }
+
+    @Test
+    void disabled_catalog_returns_no_snapshot() {
+        BoardCatalog disabled = new BoardCatalog(mock(BoardRepository.class), new BoardNameSuggester(), false, false);
+        disabled.publish(List.of(new BoardItem(1L, "原神", "desc1")));
+
+        assertNull(disabled.current());
+    }
+
+    @Test
+    void snapshot_page_matches_case_insensitive_substring_and_counts_all_matches() {
+        BoardSnapshot snapshot = BoardSnapshot.of(1L, List.of(
+                new BoardItem(3L, "Java", "d"),
+                new BoardItem(1L, "javascript", "d"),
+                new BoardItem(2L, "原神", "d")
+        ));
+
+        BoardSnapshot.Page page = snapshot.page(1, 1, "JAVA");
+
+        assertEquals(2, page.getTotal());
+        assertEquals(3L, page.getItems().get(0).getBoardId());
+        assertEquals(0, snapshot.page(10, 20, null).getItems().size());
+    }
+
+    @Test
+    void ngram_index_results_match_plain_substring_scan() {
+        List<BoardItem> boards = List.of(
+                new BoardItem(1L, "原神", "d"),
+                new BoardItem(2L, "程式", "d"),
+                new BoardItem(3L, "程式設計", "d"),
+                new BoardItem(4L, "設計程", "d"),
+                new BoardItem(5L, "Spring Boot", "d"),
+                new BoardItem(6L, "原原神神", "d")
+        );
+        BoardSnapshot snapshot = BoardSnapshot.of(1L, boards);
+
+        for (String keyword : List.of("原", "原神", "程式", "式設計", "設計程式", "boot", "G B", "神神", "不存在")) {
+            List<Long> expected = boards.stream()
+                    .filter(b -> b.getName().toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT)))
+                    .map(BoardItem::getBoardId)
+                    .toList();
+            BoardSnapshot.Page page = snapshot.page(0, 100, keyword);
+
+            assertEquals(expected.size(), page.getTotal(), keyword);
+            assertEquals(expected, page.getItems().stream().map(BoardItem::getBoardId).toList(), keyword);
+        }
+    }
+
+    @Test
+    void suggester_returns_prefix_matches_exact_first_and_sees_incremental_adds() {
+        boardCatalog.publish(List.of(
+                new BoardItem(1L, "程式語言", "d"),
+                new BoardItem(2L, "程式", "d"),
+                new BoardItem(3L, "原神", "d"),
+                new BoardItem(4L, "Java", "d")
+        ));
+
+        assertEquals(List.of(2L, 1L), ids(suggester.suggest("程", 10)));
+        assertEquals(List.of(2L), ids(suggester.suggest("程", 1)));
+        assertEquals(List.of(4L), ids(suggester.suggest("JA", 10)));
+        assertEquals(List.of(), ids(suggester.suggest("式", 10)));
+
+        suggester.add(new BoardItem(5L, "程式設計", "d"));
+
+        // 設 (U+8A2D) sorts before 語 (U+8A9E)
+        assertEquals(List.of(2L, 5L, 1L), ids(suggester.suggest("程式", 10)));
+    }
+
+    private static List<Long> ids(List<BoardItem> items) {
+        return items.stream().map(BoardItem::getBoardId).toList();
+    }
+}
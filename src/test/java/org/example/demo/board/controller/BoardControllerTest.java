@@ -1,29 +1,46 @@
 package org.example.demo.board.controller;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.example.demo.board.dto.BoardItem;
+import org.example.demo.board.dto.ListBoardsCursorResponse;
 import org.example.demo.board.dto.ListBoardsResponse;
+import org.example.demo.board.dto.SuggestBoardsResponse;
 import org.example.demo.board.service.BoardService;
+import org.example.demo.board.service.BoardTotalMode;
 import org.example.demo.common.api.GlobalExceptionHandler;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @WebMvcTest(controllers = BoardController.class)
-@Import({GlobalExceptionHandler.class})
+@Import({GlobalExceptionHandler.class, BoardResponseCache.class, SimpleMeterRegistry.class})
 @AutoConfigureMockMvc(addFilters = false)
 class BoardControllerTest {
 
@@ -39,7 +56,7 @@ class BoardControllerTest {
                 new BoardItem(1L, "原神", "desc"),
                 new BoardItem(2L, "程式", "desc2")
         ));
-        when(boardService.listBoards(anyInt(), anyInt(), nullable(String.class))).thenReturn(res);
+        when(boardService.listBoards(anyInt(), anyInt(), nullable(String.class), nullable(BoardTotalMode.class))).thenReturn(res);
 
         mockMvc.perform(get("/boards").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -57,4 +74,139 @@ class BoardControllerTest {
                 .andExpect(jsonPath("$.code").value("PAGE_INVALID"))
                 .andExpect(jsonPath("$.path").value("/boards"));
     }
+
+    @Test
+    void cursor_param_routes_to_keyset_mode() throws Exception {
+        ListBoardsCursorResponse res = new ListBoardsCursorResponse(20, "aTo0Mg", List.of(
+                new BoardItem(1L, "原神", "desc")
+        ));
+        when(boardService.listBoardsByCursor(eq(""), anyInt(), nullable(String.class))).thenReturn(res);
+
+        mockMvc.perform(get("/boards?cursor=").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageSize").value(20))
+                .andExpect(jsonPath("$.nextCursor").value("aTo0Mg"))
+                .andExpect(jsonPath("$.items").isArray());
+    }
+
+    @Test
+    void total_mode_none_returns_has_next_without_total() throws Exception {
+        ListBoardsResponse res = new ListBoardsResponse(1, 20, null, null, true, List.of(
+                new BoardItem(1L, "原神", "desc")
+        ));
+        when(boardService.listBoards(anyInt(), anyInt(), nullable(String.class), eq(BoardTotalMode.NONE))).thenReturn(res);
+
+        mockMvc.perform(get("/boards?totalMode=none").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.total").doesNotExist());
+    }
+
+    @Test
+    void total_mode_unknown_returns_400() throws Exception {
+        mockMvc.perform(get("/boards?totalMode=sometimes").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("TOTAL_MODE_INVALID"));
+    }
+
+    @Test
+    void matching_if_none_match_returns_304_without_querying() throws Exception {
+        when(boardService.catalogETag()).thenReturn("\"1f-00\"");
+
+        mockMvc.perform(get("/boards").header(HttpHeaders.IF_NONE_MATCH, "\"1f-00\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1f-00\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().string(""));
+
+        verify(boardService, never()).listBoards(anyInt(), anyInt(), nullable(String.class), nullable(BoardTotalMode.class));
+    }
+
+    @Test
+    void stale_etag_returns_200_with_current_etag_and_cache_control() throws Exception {
+        when(boardService.catalogETag()).thenReturn("\"2a-00\"");
+        when(boardService.listBoards(anyInt(), anyInt(), nullable(String.class), nullable(BoardTotalMode.class)))
+                .thenReturn(new ListBoardsResponse(1, 20, 0, List.of()));
+
+        mockMvc.perform(get("/boards").header(HttpHeaders.IF_NONE_MATCH, "\"1f-00\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2a-00\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, public"));
+    }
+
+    @Test
+    void cached_body_is_served_gzip_and_reused_for_same_catalog_version() throws Exception {
+        when(boardService.catalogETag()).thenReturn("\"3b-00\"");
+        List<BoardItem> items = new ArrayList<>();
+        for (long i = 1; i <= 30; i++) {
+            items.add(new BoardItem(i, "board-" + i, "description of board " + i));
+        }
+        when(boardService.listBoards(anyInt(), anyInt(), nullable(String.class), nullable(BoardTotalMode.class)))
+                .thenReturn(new ListBoardsResponse(1, 30, 30, items));
+
+        byte[] gzipped = mockMvc.perform(get("/boards?pageSize=30&keyword=Board").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3b-00-gz\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertTrue(new String(in.readAllBytes(), StandardCharsets.UTF_8).contains("\"board-30\""));
+        }
+
+        mockMvc.perform(get("/boards?pageSize=30&keyword=board "))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3b-00\""))
+                .andExpect(jsonPath("$.items.length()").value(30));
+
+        verify(boardService, times(1)).listBoards(anyInt(), anyInt(), nullable(String.class), nullable(BoardTotalMode.class));
+    }
+
+    @Test
+    void gzip_etag_is_not_modified_only_while_the_client_still_accepts_gzip() throws Exception {
+        when(boardService.catalogETag()).thenReturn("\"6c-00\"");
+        when(boardService.listBoards(anyInt(), anyInt(), nullable(String.class), nullable(BoardTotalMode.class)))
+                .thenReturn(new ListBoardsResponse(1, 20, 0, List.of()));
+
+        mockMvc.perform(get("/boards")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"6c-00-gz\"")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"6c-00-gz\""));
+        verify(boardService, never()).listBoards(anyInt(), anyInt(), nullable(String.class), nullable(BoardTotalMode.class));
+
+        // the cached body is gzip; a client that no longer accepts gzip must get the identity body
+        mockMvc.perform(get("/boards").header(HttpHeaders.IF_NONE_MATCH, "\"6c-00-gz\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"6c-00\""));
+    }
+
+    @Test
+    void request_that_read_an_etag_before_a_refresh_does_not_replace_the_newer_generation() throws Exception {
+        // per request: the controller reads the ETag, then the cache checks it when it starts a generation
+        when(boardService.catalogETag()).thenReturn("\"5e-00\"", "\"5e-00\"", "\"4d-00\"", "\"5e-00\"", "\"5e-00\"");
+        when(boardService.listBoards(anyInt(), anyInt(), nullable(String.class), nullable(BoardTotalMode.class)))
+                .thenReturn(new ListBoardsResponse(1, 20, 0, List.of()));
+
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(get("/boards?keyword=refresh")).andExpect(status().isOk());
+        }
+
+        // the stale request was served uncached; the current generation still holds the first body
+        verify(boardService, times(2)).listBoards(anyInt(), anyInt(), nullable(String.class), nullable(BoardTotalMode.class));
+    }
+
+    @Test
+    void suggest_returns_prefix_and_items() throws Exception {
+        when(boardService.suggest("程", 10)).thenReturn(new SuggestBoardsResponse("程", List.of(
+                new BoardItem(2L, "程式", "desc2")
+        )));
+
+        mockMvc.perform(get("/boards/suggest").param("prefix", "程"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.prefix").value("程"))
+                .andExpect(jsonPath("$.items[0].boardId").value(2));
+    }
 }
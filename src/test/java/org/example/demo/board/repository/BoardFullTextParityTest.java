@@ -0,0 +1,65 @@
+package org.example.demo.board.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.example.demo.board.dto.BoardItem;
+import org.example.demo.board.entity.Board;
+import org.example.demo.board.service.BoardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs only against a real MySQL (see application-fulltext-it.yml): the ngram FULLTEXT backend
+ * must return the same boards as a plain substring search over name and description.
+ */
+@SpringBootTest
+@ActiveProfiles("fulltext-it")
+@EnabledIfEnvironmentVariable(named = "FULLTEXT_IT_DB_URL", matches = ".+")
+class BoardFullTextParityTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM boards");
+        boardRepository.saveAll(List.of(
+                new Board("原神", "空月之歌-月之三"),
+                new Board("原神攻略", "新手原石規劃"),
+                new Board("程式", "Java / Spring / 前端"),
+                new Board("程式設計", "演算法與資料結構"),
+                new Board("前端工程", "React 與 Vue"),
+                new Board("閒聊", "什麼都可以聊"),
+                new Board("Spring", "Spring Boot 實戰"),
+                new Board("遊戲", "原神、星穹鐵道")
+        ));
+    }
+
+    @Test
+    void fulltext_results_match_substring_search_on_name_or_description() {
+        for (String keyword : List.of("原神", "程式", "程式設計", "前端", "spring", "鐵道", "月之", "不存在", "原")) {
+            List<Long> expected = jdbcTemplate.queryForList(
+                    "SELECT board_id FROM boards WHERE name LIKE ? OR description LIKE ? ORDER BY board_id",
+                    Long.class, "%" + keyword + "%", "%" + keyword + "%");
+
+            List<Long> actual = boardService.listBoards(1, 100, keyword).getItems().stream()
+                    .map(BoardItem::getBoardId)
+                    .toList();
+
+            assertEquals(expected, actual, keyword);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.demo.board.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.example.demo.board.dto.ImportBoardsError;
+import org.example.demo.board.dto.ImportBoardsResponse;
+import org.example.demo.board.repository.BoardRepository;
+import org.example.demo.user.exception.ValidationFailedException;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+class BoardImportServiceTest {
+
+    private BoardRepository boardRepository;
+    private Session session;
+    private BoardImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(boardRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+        importService = new BoardImportService(boardRepository, entityManager, mock(PlatformTransactionManager.class),
+                new ObjectMapper(), 2);
+    }
+
+    private static InputStream body(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void json_rows_are_written_in_batches() {
+        ImportBoardsResponse res = importService.importJson(body("""
+                [{"name":"原神","description":"遊戲","extra":{"x":[1,2]}},
+                 {"name":"程式","description":"寫扣"},
+                 {"name":" 音樂 ","description":"聽歌"}]
+                """));
+
+        assertEquals(3, res.getReceived());
+        assertEquals(3, res.getImported());
+        assertEquals(0, res.getFailed());
+        // batch size 2: one full chunk and one remainder, each a single JDBC batch
+        verify(boardRepository, times(2)).saveAll(any());
+        verify(boardRepository, times(2)).flush();
+        verify(session, times(2)).setJdbcBatchSize(2);
+    }
+
+    @Test
+    void csv_reports_invalid_duplicate_and_existing_rows_without_aborting() {
+        when(boardRepository.findExistingNames(anyCollection())).thenReturn(List.of("JAVA"));
+
+        ImportBoardsResponse res = importService.importCsv(body(
+                "\uFEFFdescription,Name\r\n"
+                        + "\"多行,\n描述\",原神\r\n"
+                        + "x,\r\n"
+                        + "\r\n"
+                        + "dup,原神\n"
+                        + "\"say \"\"hi\"\"\",java\n"
+                        + "ok,程式\n"));
+
+        assertEquals(5, res.getReceived());
+        assertEquals(2, res.getImported());
+        assertEquals(3, res.getFailed());
+        List<ImportBoardsError> errors = res.getErrors();
+        assertEquals(2, errors.get(0).getRow());
+        assertEquals("NAME_INVALID", errors.get(0).getCode());
+        assertEquals(3, errors.get(1).getRow());
+        assertEquals("NAME_DUPLICATED_IN_IMPORT", errors.get(1).getCode());
+        assertEquals("java", errors.get(2).getName());
+        assertEquals("NAME_ALREADY_EXISTS", errors.get(2).getCode());
+    }
+
+    @Test
+    void unique_violation_in_a_batch_retries_that_chunk_row_by_row() {
+        doThrow(new DataIntegrityViolationException("uq_boards_name"))
+                .doNothing()
+                .doThrow(new DataIntegrityViolationException("uq_boards_name"))
+                .when(boardRepository).flush();
+
+        ImportBoardsResponse res = importService.importJson(body("""
+                [{"name":"a","description":"1"},{"name":"b","description":"2"}]
+                """));
+
+        assertEquals(1, res.getImported());
+        assertEquals(1, res.getFailed());
+        assertEquals(2, res.getErrors().get(0).getRow());
+        assertEquals("NAME_ALREADY_EXISTS", res.getErrors().get(0).getCode());
+        verify(boardRepository, times(3)).saveAll(any());
+    }
+
+    @Test
+    void malformed_json_returns_import_format_invalid() {
+        ValidationFailedException ex = assertThrows(ValidationFailedException.class,
+                () -> importService.importJson(body("{\"name\":\"a\"}")));
+        assertEquals("IMPORT_FORMAT_INVALID", ex.getCode());
+        verify(boardRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void csv_without_required_columns_returns_import_format_invalid() {
+        ValidationFailedException ex = assertThrows(ValidationFailedException.class,
+                () -> importService.importCsv(body("title,description\na,b\n")));
+        assertEquals("IMPORT_FORMAT_INVALID", ex.getCode());
+    }
+}
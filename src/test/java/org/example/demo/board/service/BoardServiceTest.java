@@ -1,16 +1,29 @@
 package org.example.demo.board.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 
+import org.example.demo.board.catalog.BoardCatalog;
+import org.example.demo.board.catalog.BoardNameSuggester;
+import org.example.demo.board.catalog.BoardSnapshot;
+import org.example.demo.board.dto.BoardItem;
+import org.example.demo.board.dto.ListBoardsCursorResponse;
 import org.example.demo.board.dto.ListBoardsResponse;
 import org.example.demo.board.entity.Board;
 import org.example.demo.board.repository.BoardRepository;
+import org.example.demo.common.exception.InternalErrorException;
 import org.example.demo.user.exception.ValidationFailedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,24 +31,42 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class BoardServiceTest {
 
     private BoardRepository boardRepository;
+    private BoardTotalEstimator totalEstimator;
+    private BoardCatalog boardCatalog;
+    private PlatformTransactionManager transactionManager;
     private BoardService boardService;
 
     @BeforeEach
     void setUp() {
         boardRepository = mock(BoardRepository.class);
-        boardService = new BoardService(boardRepository);
+        totalEstimator = mock(BoardTotalEstimator.class);
+        boardCatalog = mock(BoardCatalog.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        boardService = newService(BoardSearchBackend.SUBSTRING);
+    }
+
+    private BoardService newService(BoardSearchBackend backend) {
+        return new BoardService(boardRepository, totalEstimator, boardCatalog, mock(BoardNameSuggester.class), transactionManager,
+                new SimpleMeterRegistry(), BoardTotalMode.EXACT, backend, 2);
     }
 
     @Test
     void uc01_listBoards_success_no_keyword() {
-        Board a = new Board("原神", "desc1");
-        Board b = new Board("程式", "desc2");
-        Page<Board> page = new PageImpl<>(List.of(a, b), PageRequest.of(0, 20), 2);
-        when(boardRepository.findAll(any(PageRequest.class))).thenReturn(page);
+        BoardItem a = new BoardItem(1L, "原神", "desc1");
+        BoardItem b = new BoardItem(2L, "程式", "desc2");
+        Page<BoardItem> page = new PageImpl<>(List.of(a, b), PageRequest.of(0, 20), 2);
+        when(boardRepository.findItems(any(PageRequest.class))).thenReturn(page);
 
         ListBoardsResponse res = boardService.listBoards(1, 20, null);
 
@@ -45,6 +76,16 @@ class BoardServiceTest {
         assertEquals(2, res.getItems().size());
     }
 
+    @Test
+    void uc02_keyword_uses_escaped_lower_case_like_pattern() {
+        Page<BoardItem> page = new PageImpl<>(List.of(new BoardItem(2L, "程式", "desc2")), PageRequest.of(0, 20), 1);
+        when(boardRepository.searchItemsByName(eq("%java!_100!%%"), any(PageRequest.class))).thenReturn(page);
+
+        ListBoardsResponse res = boardService.listBoards(1, 20, " Java_100% ");
+
+        assertEquals(1, res.getTotal());
+    }
+
     @Test
     void uc04_page_invalid_throws_validation() {
         ValidationFailedException ex = assertThrows(ValidationFailedException.class, () -> boardService.listBoards(0, 20, null));
@@ -59,7 +100,140 @@ class BoardServiceTest {
 
     @Test
     void uc06_repository_throws_internal_error() {
-        when(boardRepository.findAll(any(PageRequest.class))).thenThrow(mock(DataAccessException.class));
-        assertThrows(RuntimeException.class, () -> boardService.listBoards(1, 20, null));
+        when(boardRepository.findItems(any(PageRequest.class))).thenThrow(mock(DataAccessException.class));
+        assertThrows(InternalErrorException.class, () -> boardService.listBoards(1, 20, null));
+    }
+
+    @Test
+    void snapshot_loaded_serves_keyword_page_without_repository() {
+        BoardSnapshot snapshot = BoardSnapshot.of(1L, List.of(
+                new BoardItem(1L, "原神", "desc1"),
+                new BoardItem(2L, "程式", "desc2"),
+                new BoardItem(3L, "Java程式", "desc3")
+        ));
+        when(boardCatalog.current()).thenReturn(snapshot);
+
+        ListBoardsResponse res = boardService.listBoards(1, 20, "程式");
+
+        assertEquals(2, res.getTotal());
+        assertEquals(2L, res.getItems().get(0).getBoardId());
+        verifyNoInteractions(boardRepository, transactionManager);
+    }
+
+    @Test
+    void fulltext_backend_quotes_keyword_as_boolean_phrase() {
+        BoardService fullText = newService(BoardSearchBackend.FULLTEXT);
+        Page<Board> page = new PageImpl<>(List.of(new Board("程式", "Java")), PageRequest.of(0, 20), 1);
+        when(boardRepository.searchFullText(eq("\"程式 +x\""), any(PageRequest.class))).thenReturn(page);
+
+        ListBoardsResponse res = fullText.listBoards(1, 20, "程式 +x\"");
+
+        assertEquals(1, res.getTotal());
+        verify(boardCatalog, never()).current();
+    }
+
+    @Test
+    void fulltext_short_keyword_falls_back_to_like_ordered_by_id_and_honours_total_mode() {
+        BoardService fullText = newService(BoardSearchBackend.FULLTEXT);
+        PageRequest byId = PageRequest.of(0, 20, Sort.by("boardId"));
+        when(boardRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase("程", "程", byId))
+                .thenReturn(new PageImpl<>(List.of(new Board("程式", "Java")), byId, 1));
+        when(boardRepository.findSliceByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase("程", "程", byId))
+                .thenReturn(new SliceImpl<>(List.of(new Board("程式", "Java")), byId, true));
+
+        assertEquals(1, fullText.listBoards(1, 20, "程").getTotal());
+
+        ListBoardsResponse slice = fullText.listBoards(1, 20, "程", BoardTotalMode.NONE);
+        assertNull(slice.getTotal());
+        assertEquals(Boolean.TRUE, slice.getHasNext());
+        verify(boardRepository).findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase("程", "程", byId);
+    }
+
+    @Test
+    void slice_mode_returns_has_next_and_skips_count() {
+        Slice<BoardItem> slice = new SliceImpl<>(List.of(new BoardItem(1L, "原神", "desc1")), PageRequest.of(0, 1), true);
+        when(boardRepository.findItemSlice(any(PageRequest.class))).thenReturn(slice);
+
+        ListBoardsResponse res = boardService.listBoards(1, 1, null, BoardTotalMode.NONE);
+
+        assertNull(res.getTotal());
+        assertEquals(Boolean.TRUE, res.getHasNext());
+        verify(boardRepository, never()).findItems(any(PageRequest.class));
+        verify(boardRepository, never()).count();
+    }
+
+    @Test
+    void estimated_mode_uses_cached_total_for_unfiltered_listing() {
+        Slice<BoardItem> slice = new SliceImpl<>(List.of(new BoardItem(1L, "原神", "desc1")), PageRequest.of(0, 20), false);
+        when(boardRepository.findItemSlice(any(PageRequest.class))).thenReturn(slice);
+        when(totalEstimator.estimate()).thenReturn(135L);
+
+        ListBoardsResponse res = boardService.listBoards(1, 20, null, BoardTotalMode.ESTIMATED);
+
+        assertEquals(135L, res.getTotal());
+        assertEquals(Boolean.TRUE, res.getTotalEstimated());
+    }
+
+    @Test
+    void cursor_first_page_returns_next_cursor_that_seeks_past_last_id() {
+        BoardItem a = new BoardItem(1L, "原神", "desc");
+        BoardItem b = new BoardItem(2L, "程式", "desc");
+        BoardItem c = new BoardItem(3L, "閒聊", "desc");
+        when(boardRepository.findItemsAfterId(eq(0L), any(Pageable.class))).thenReturn(List.of(a, b, c));
+
+        ListBoardsCursorResponse first = boardService.listBoardsByCursor("", 2, null);
+
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
+
+        when(boardRepository.findItemsAfterId(eq(2L), any(Pageable.class))).thenReturn(List.of(c));
+        ListBoardsCursorResponse second = boardService.listBoardsByCursor(first.getNextCursor(), 2, null);
+
+        assertEquals(1, second.getItems().size());
+        assertEquals(3L, second.getItems().get(0).getBoardId());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void cursor_keyword_mode_seeks_on_name() {
+        BoardItem a = new BoardItem(7L, "程式", "desc");
+        BoardItem b = new BoardItem(3L, "程式語言", "desc");
+        when(boardRepository.searchItemsByNameAfter(eq("%程式%"), eq(""), any(Pageable.class))).thenReturn(List.of(a, b));
+
+        ListBoardsCursorResponse first = boardService.listBoardsByCursor(null, 1, " 程式 ");
+
+        when(boardRepository.searchItemsByNameAfter(eq("%程式%"), eq("程式"), any(Pageable.class))).thenReturn(List.of(b));
+        ListBoardsCursorResponse second = boardService.listBoardsByCursor(first.getNextCursor(), 1, "程式");
+
+        assertEquals("程式語言", second.getItems().get(0).getName());
+    }
+
+    @Test
+    void cursor_malformed_or_wrong_mode_throws_cursor_invalid() {
+        ValidationFailedException malformed = assertThrows(ValidationFailedException.class,
+                () -> boardService.listBoardsByCursor("!!not-base64!!", 20, null));
+        assertEquals("CURSOR_INVALID", malformed.getCode());
+
+        when(boardRepository.findItemsAfterId(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new BoardItem(1L, "原神", "desc"), new BoardItem(2L, "程式", "desc")));
+        String idCursor = boardService.listBoardsByCursor("", 1, null).getNextCursor();
+
+        ValidationFailedException wrongMode = assertThrows(ValidationFailedException.class,
+                () -> boardService.listBoardsByCursor(idCursor, 1, "程式"));
+        assertEquals("CURSOR_INVALID", wrongMode.getCode());
+        verify(boardRepository, never()).searchItemsByNameAfter(anyString(), anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void suggest_without_catalog_uses_escaped_prefix_query() {
+        when(boardRepository.findItemsByNamePrefix(eq("程!_%"), any(Pageable.class)))
+                .thenReturn(List.of(new BoardItem(2L, "程_式", "desc")));
+
+        assertEquals(1, boardService.suggest(" 程_ ", 5).getItems().size());
+
+        ValidationFailedException blank = assertThrows(ValidationFailedException.class, () -> boardService.suggest(" ", 5));
+        assertEquals("PREFIX_INVALID", blank.getCode());
+        ValidationFailedException limit = assertThrows(ValidationFailedException.class, () -> boardService.suggest("程", 21));
+        assertEquals("LIMIT_INVALID", limit.getCode());
     }
 }
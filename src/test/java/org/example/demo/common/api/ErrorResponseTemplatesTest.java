@@ -0,0 +1,60 @@
+package org.example.demo.common.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class ErrorResponseTemplatesTest {
+
+    // configured like Spring Boot's ObjectMapper for Instant
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private void assertSameAsJackson(HttpStatus status, String message, String code, String path, Instant ts)
+            throws Exception {
+        String expected = objectMapper.writeValueAsString(
+                new ErrorResponse(status.value(), status.getReasonPhrase(), message, code, path, ts));
+
+        String rendered = new String(ErrorResponseTemplates.render(status, message, code, path, ts), StandardCharsets.UTF_8);
+
+        assertEquals(expected, rendered);
+    }
+
+    @Test
+    void matches_jackson_output_for_an_ErrorResponse() throws Exception {
+        assertSameAsJackson(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "PASSWORD_REQUIRED", "/users/register",
+                Instant.parse("2025-12-25T10:00:00Z"));
+    }
+
+    @Test
+    void cached_template_is_reused_with_new_path_and_timestamp() throws Exception {
+        assertSameAsJackson(HttpStatus.UNAUTHORIZED, "AUTHENTICATION_FAILED", "TOKEN_EXPIRED", "/a",
+                Instant.parse("2026-01-01T00:00:00.123456789Z"));
+        assertSameAsJackson(HttpStatus.UNAUTHORIZED, "AUTHENTICATION_FAILED", "TOKEN_EXPIRED", "/b",
+                Instant.parse("2026-01-01T00:00:01Z"));
+    }
+
+    @Test
+    void same_code_with_another_status_is_not_served_the_cached_template() throws Exception {
+        assertSameAsJackson(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "CURSOR_INVALID", "/boards",
+                Instant.parse("2026-01-01T00:00:00Z"));
+        assertSameAsJackson(HttpStatus.CONFLICT, "CONFLICT", "CURSOR_INVALID", "/boards",
+                Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void escapes_path_and_writes_nulls() throws Exception {
+        assertSameAsJackson(HttpStatus.NOT_FOUND, "NOT_FOUND", null, "/boards/\"x\"\\y\u0001",
+                Instant.parse("2026-01-01T00:00:00Z"));
+        assertSameAsJackson(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "INTERNAL_ERROR", null, null);
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.demo.common.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.example.demo.user.dto.LoginRequest;
+import org.example.demo.user.dto.RegisterUserRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+class ValidationCodesTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private static RegisterUserRequest register(String name, String email, String password, String confirm) {
+        RegisterUserRequest req = new RegisterUserRequest();
+        req.setName(name);
+        req.setEmail(email);
+        req.setPassword(password);
+        req.setConfirmPassword(confirm);
+        return req;
+    }
+
+    private String codeFor(Object request) {
+        return ValidationCodes.codeFor(request.getClass(), validator.validate(request));
+    }
+
+    @Test
+    void password_violation_wins_over_other_fields() {
+        assertEquals("PASSWORD_REQUIRED", codeFor(register(" ", "not-an-email", null, "abc12345")));
+    }
+
+    @Test
+    void other_fields_follow_declaration_order() {
+        assertEquals("NAME_REQUIRED", codeFor(register(null, "not-an-email", "abc12345", "abc12345")));
+        assertEquals("INVALID_EMAIL", codeFor(register("Leo", "not-an-email", "abc12345", "abc12345")));
+    }
+
+    @Test
+    void camel_case_field_becomes_snake_case_code() {
+        assertEquals("INVALID_CONFIRM_PASSWORD", codeFor(register("Leo", "leo@example.com", "abc12345", "abc1234567890")));
+        assertEquals("CONFIRM_PASSWORD_REQUIRED", codeFor(register("Leo", "leo@example.com", "abc12345", null)));
+    }
+
+    @Test
+    void class_level_constraint_is_used_when_fields_are_valid() {
+        assertEquals("INVALID_CONFIRM_PASSWORD", codeFor(register("Leo", "leo@example.com", "abc12345", "abc12346")));
+    }
+
+    @Test
+    void binding_result_gets_the_same_codes() {
+        LoginRequest req = new LoginRequest();
+        req.setEmail("not-an-email");
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(req, "loginRequest");
+        result.rejectValue("email", "Email");
+        result.rejectValue("password", "NotBlank");
+
+        assertEquals("PASSWORD_REQUIRED", ValidationCodes.codeFor(result));
+    }
+
+    @Test
+    void screaming_snake_matches_previous_regex() {
+        assertEquals("CONFIRM_PASSWORD", ValidationCodes.screamingSnake("confirmPassword"));
+        assertEquals("USER_ID", ValidationCodes.screamingSnake("userID"));
+        assertEquals("EMAIL", ValidationCodes.screamingSnake("email"));
+    }
+}
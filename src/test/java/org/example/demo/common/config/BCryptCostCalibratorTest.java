@@ -0,0 +1,45 @@
+package org.example.demo.common.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+import org.junit.jupiter.api.Test;
+
+class BCryptCostCalibratorTest {
+
+    // cost 10 takes 80 ms on this pretend host, and every step doubles it
+    private static final IntToLongFunction HOST = cost -> TimeUnit.MILLISECONDS.toNanos(80L << cost >> 10);
+
+    @Test
+    void picks_highest_cost_within_budget() {
+        assertEquals(11, BCryptCostCalibrator.calibrate(HOST, TimeUnit.MILLISECONDS.toNanos(250), 10, 16));
+        assertEquals(12, BCryptCostCalibrator.calibrate(HOST, TimeUnit.MILLISECONDS.toNanos(320), 10, 16));
+    }
+
+    @Test
+    void stops_measuring_at_first_cost_over_budget() {
+        List<Integer> measured = new ArrayList<>();
+        BCryptCostCalibrator.calibrate(cost -> {
+            measured.add(cost);
+            return HOST.applyAsLong(cost);
+        }, TimeUnit.MILLISECONDS.toNanos(250), 10, 16);
+
+        assertEquals(List.of(10, 11, 12), measured);
+    }
+
+    @Test
+    void never_goes_below_floor_or_above_ceiling() {
+        assertEquals(10, BCryptCostCalibrator.calibrate(HOST, TimeUnit.MILLISECONDS.toNanos(1), 10, 16));
+        assertEquals(13, BCryptCostCalibrator.calibrate(HOST, TimeUnit.SECONDS.toNanos(60), 10, 13));
+    }
+
+    @Test
+    void real_measurement_grows_with_cost() {
+        assertTrue(BCryptCostCalibrator.measureNanos(8) > BCryptCostCalibrator.measureNanos(4));
+    }
+}
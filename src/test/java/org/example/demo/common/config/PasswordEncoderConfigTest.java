@@ -0,0 +1,27 @@
+package org.example.demo.common.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@SpringBootTest(classes = PasswordEncoderConfig.class)
+class PasswordEncoderConfigTest {
+
+    @Value("${app.password.bcrypt.calibrate}")
+    private boolean calibrate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void test_contexts_skip_calibration_and_use_the_fixed_cost() {
+        // application.yml turns calibration on; the test override turns it off again
+        assertFalse(calibrate);
+        assertTrue(passwordEncoder.encode("secret").startsWith("{bcrypt}$2a$10$"));
+    }
+}
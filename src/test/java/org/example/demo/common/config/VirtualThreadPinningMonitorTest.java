@@ -0,0 +1,74 @@
+package org.example.demo.common.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry registry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(registry, 10);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void sleeping_inside_synchronized_on_a_virtual_thread_is_recorded() throws Exception {
+        // from JDK 24 (JEP 491) monitors no longer pin, so there is nothing to observe
+        assumeTrue(Runtime.version().feature() < 24);
+        Object lock = new Object();
+
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        Timer pinned = registry.get("jvm.threads.virtual.pinned").timer();
+        // the JFR stream flushes about once a second
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (pinned.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(pinned.count() > 0);
+    }
+
+    @Test
+    void parking_without_a_monitor_is_not_pinning() throws Exception {
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }).join();
+        Thread.sleep(1500);
+
+        assertEquals(0, registry.get("jvm.threads.virtual.pinned").timer().count());
+    }
+
+    @Test
+    void location_of_empty_stack_is_unknown() {
+        assertEquals("unknown", VirtualThreadPinningMonitor.location(null));
+    }
+}
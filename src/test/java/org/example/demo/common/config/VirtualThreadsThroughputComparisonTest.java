@@ -0,0 +1,168 @@
+package org.example.demo.common.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.example.demo.board.catalog.BoardCatalog;
+import org.example.demo.board.catalog.BoardNameSuggester;
+import org.example.demo.board.controller.BoardController;
+import org.example.demo.board.controller.BoardResponseCache;
+import org.example.demo.board.dto.BoardItem;
+import org.example.demo.board.repository.BoardRepository;
+import org.example.demo.board.service.BoardService;
+import org.example.demo.board.service.BoardTotalEstimator;
+import org.example.demo.common.api.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Requests per second for {@code GET /boards} through the real Tomcat, controller, service and
+ * response serialization, with and without the {@code virtual-threads} profile. The board
+ * repository is stubbed to block for {@link #QUERY_MILLIS} per call, like a query waiting on
+ * MySQL or a row lock, and the catalog is left unloaded so every request reaches it. The wait
+ * is long enough that Tomcat's 200 platform threads, not the CPU, cap the platform run even on
+ * a one-core machine. Not part of the normal build:
+ * <pre>
+ * THROUGHPUT_COMPARISON=true ./mvnw test -Dtest=VirtualThreadsThroughputComparisonTest
+ * </pre>
+ * The results from one run are in {@code application-virtual-threads.yml}.
+ */
+@EnabledIfEnvironmentVariable(named = "THROUGHPUT_COMPARISON", matches = "true")
+class VirtualThreadsThroughputComparisonTest {
+
+    private static final long QUERY_MILLIS = 1000;
+    // well past Tomcat's 200 platform request threads
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @Test
+    void virtual_threads_serve_more_blocking_requests_per_second() throws Exception {
+        double platform = requestsPerSecond(false);
+        double virtual = requestsPerSecond(true);
+
+        System.out.printf("GET /boards, %d concurrent, %d ms query: platform %.0f req/s, virtual %.0f req/s (%.1fx)%n",
+                CONCURRENT_REQUESTS, QUERY_MILLIS, platform, virtual, virtual / platform);
+        assertTrue(virtual > platform, "virtual " + virtual + " <= platform " + platform);
+    }
+
+    private static double requestsPerSecond(boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(App.class)
+                .properties("server.port=0", "management.server.port=-1", "spring.main.banner-mode=off");
+        if (virtualThreads) {
+            builder.profiles("virtual-threads");
+        }
+        try (ConfigurableApplicationContext app = builder.run();
+             ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientThreads)
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/boards")).build();
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                burst(client, request);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                burst(client, request);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return CONCURRENT_REQUESTS * MEASURED_ROUNDS / seconds;
+        }
+    }
+
+    private static void burst(HttpClient client, HttpRequest request) {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            assertEquals(200, response.join().statusCode());
+        }
+    }
+
+    /** The board listing stack on an embedded Tomcat, with no database and no security filters. */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            LiquibaseAutoConfiguration.class,
+            ManagementWebSecurityAutoConfiguration.class,
+            SecurityAutoConfiguration.class,
+            SecurityFilterAutoConfiguration.class,
+            UserDetailsServiceAutoConfiguration.class
+    })
+    @Import({BoardController.class, BoardResponseCache.class, BoardService.class, GlobalExceptionHandler.class})
+    static class App {
+
+        @Bean
+        BoardRepository boardRepository() {
+            // a plain proxy rather than a Mockito mock, which records every call and would add
+            // its own bookkeeping to the numbers
+            List<BoardItem> items = List.of(new BoardItem(1L, "原神", "desc"), new BoardItem(2L, "程式", "desc2"));
+            return (BoardRepository) Proxy.newProxyInstance(BoardRepository.class.getClassLoader(),
+                    new Class<?>[] {BoardRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "findItems" -> {
+                            Thread.sleep(QUERY_MILLIS);
+                            yield new PageImpl<>(items, (Pageable) args[0], items.size());
+                        }
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "slow BoardRepository";
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        @Bean
+        BoardCatalog boardCatalog() {
+            // current() stays null: every request goes to the repository
+            return mock(BoardCatalog.class);
+        }
+
+        @Bean
+        BoardTotalEstimator boardTotalEstimator() {
+            return mock(BoardTotalEstimator.class);
+        }
+
+        @Bean
+        BoardNameSuggester boardNameSuggester() {
+            return mock(BoardNameSuggester.class);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return mock(PlatformTransactionManager.class);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.demo.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint(5);
+
+    @AfterEach
+    void tearDown() throws Exception {
+        endpoint.discard();
+    }
+
+    @Test
+    void start_returns_at_once_and_the_finished_recording_is_downloadable() throws Exception {
+        assertEquals(404, endpoint.download().getStatus());
+
+        assertTrue(endpoint.start(Duration.ofMillis(500), "default"));
+        assertEquals(409, endpoint.download().getStatus());
+        assertFalse(endpoint.start(Duration.ofMillis(500), "default"));
+
+        WebEndpointResponse<Resource> response = endpoint.download();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (response.getStatus() == 409 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            response = endpoint.download();
+        }
+        assertEquals(200, response.getStatus());
+        assertFalse(RecordingFile.readAllEvents(response.getBody().getFile().toPath()).isEmpty());
+    }
+
+    @Test
+    void rejects_durations_over_the_cap_and_unknown_settings() {
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.start(6, null).getStatus());
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.start(0, null).getStatus());
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.start(1, "everything").getStatus());
+    }
+}
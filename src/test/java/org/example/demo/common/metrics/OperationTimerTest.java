@@ -0,0 +1,50 @@
+package org.example.demo.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.example.demo.user.exception.AuthenticationFailedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OperationTimerTest {
+
+    private SimpleMeterRegistry registry;
+    private OperationTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        timer = new OperationTimer(registry, "user.login");
+    }
+
+    @Test
+    void success_is_tagged_success_none() {
+        assertEquals("ok", timer.record(() -> "ok"));
+
+        assertEquals(1, registry.get(OperationTimer.NAME)
+                .tags("operation", "user.login", "outcome", "success", "code", "none").timer().count());
+    }
+
+    @Test
+    void api_exception_is_tagged_with_its_code() {
+        assertThrows(AuthenticationFailedException.class, () -> timer.record(() -> {
+            throw new AuthenticationFailedException();
+        }));
+
+        assertEquals(1, registry.get(OperationTimer.NAME)
+                .tags("outcome", "client_error", "code", "AUTHENTICATION_FAILED").timer().count());
+    }
+
+    @Test
+    void other_exception_is_server_error_unhandled() {
+        assertThrows(IllegalStateException.class, () -> timer.record(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, registry.get(OperationTimer.NAME)
+                .tags("outcome", "server_error", "code", "UNHANDLED").timer().count());
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.demo.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    private static final String TOKEN = "debug-token";
+
+    // a request that spends 2 ms in the database and 0.5 ms hashing, then writes a body
+    private static final HttpServlet ENDPOINT = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+            ServerTiming.add(ServerTiming.Stage.DB, TimeUnit.MILLISECONDS.toNanos(2));
+            ServerTiming.add(ServerTiming.Stage.BCRYPT, TimeUnit.MICROSECONDS.toNanos(500));
+            res.getOutputStream().write("{}".getBytes());
+        }
+    };
+
+    @Test
+    void debug_token_adds_stage_breakdown_before_the_body() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/login");
+        request.addHeader(ServerTimingFilter.DEBUG_HEADER, TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter(0, TOKEN).doFilter(request, response, new MockFilterChain(ENDPOINT));
+
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertTrue(header.startsWith("db;dur=2, bcrypt;dur=0.5, jwt;dur=0, ser;dur=0, total;dur="), header);
+        assertFalse(ServerTiming.isActive());
+    }
+
+    @Test
+    void wrong_or_missing_token_is_not_timed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards");
+        request.addHeader(ServerTimingFilter.DEBUG_HEADER, "guess");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter(0, TOKEN).doFilter(request, response, new MockFilterChain(ENDPOINT));
+
+        assertNull(response.getHeader(ServerTimingFilter.HEADER));
+    }
+
+    @Test
+    void no_token_configured_disables_the_debug_header() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards");
+        request.addHeader(ServerTimingFilter.DEBUG_HEADER, "");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter(0, "").doFilter(request, response, new MockFilterChain(ENDPOINT));
+
+        assertNull(response.getHeader(ServerTimingFilter.HEADER));
+    }
+
+    @Test
+    void sample_rate_one_times_every_request_including_bodiless_ones() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter(1.0, "").doFilter(new MockHttpServletRequest("POST", "/users/logout"), response,
+                new MockFilterChain());
+
+        assertTrue(response.getHeader(ServerTimingFilter.HEADER).contains("total;dur="));
+    }
+
+    @Test
+    void outside_a_timed_request_recording_is_a_no_op() {
+        assertEquals(0L, ServerTiming.start());
+        ServerTiming.add(ServerTiming.Stage.DB, 1_000_000);
+        assertFalse(ServerTiming.isActive());
+    }
+}
@@ -1,26 +1,45 @@
 package org.example.demo.user.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.example.demo.common.api.GlobalExceptionHandler;
 import org.example.demo.common.config.SecurityConfig;
+import org.example.demo.common.exception.RetryLaterException;
+import org.example.demo.user.dto.BatchUsersResponse;
 import org.example.demo.user.dto.LoginResponse;
 import org.example.demo.user.dto.RegisterUserResponse;
+import org.example.demo.user.dto.UserProfileItem;
 import org.example.demo.user.exception.AuthenticationFailedException;
 import org.example.demo.user.exception.EmailAlreadyExistsException;
+import org.example.demo.user.exception.InvalidTokenException;
+import org.example.demo.user.entity.UserRole;
 import org.example.demo.user.exception.ValidationFailedException;
+import org.example.demo.user.security.AuthenticatedUser;
+import org.example.demo.user.security.SecurityErrorHandler;
+import org.example.demo.user.service.JwtTokenService;
+import org.example.demo.user.service.LoginThrottle;
+import org.example.demo.user.service.RefreshTokenService;
+import org.example.demo.user.service.TokenRevocationService;
+import org.example.demo.user.service.UserProfileService;
 import org.example.demo.user.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -28,7 +47,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(controllers = UserController.class)
-@Import({GlobalExceptionHandler.class, SecurityConfig.class})
+@Import({GlobalExceptionHandler.class, SecurityConfig.class, SecurityErrorHandler.class})
 class UserControllerTest {
 
     @Autowired
@@ -40,6 +59,22 @@ class UserControllerTest {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockitoBean
+    private JwtTokenService jwtTokenService;
+
+    @MockitoBean
+    private UserProfileService userProfileService;
+
+    // mock returns 0 (no wait) unless a test stubs it, so attempts pass through
+    @MockitoBean
+    private LoginThrottle loginThrottle;
+
     @Test
     void ct01_register_success_returns_201() throws Exception {
         RegisterUserResponse res = new RegisterUserResponse(123L, "Leo", "leo@example.com", "USER", Instant.parse("2025-12-25T10:00:00Z"));
@@ -66,6 +101,9 @@ class UserControllerTest {
 
     @Test
     void ct02_register_missing_password_returns_400_password_required() throws Exception {
+        // validation runs once, in the service (after normalization)
+        when(userService.registerUser(any())).thenThrow(new ValidationFailedException("PASSWORD_REQUIRED"));
+
         String body = "{" +
                 "\"name\":\"Leo\"," +
                 "\"email\":\"leo@example.com\"," +
@@ -145,6 +183,8 @@ class UserControllerTest {
 
     @Test
     void ct06_login_missing_password_returns_400_password_required() throws Exception {
+        when(userService.loginUser(any())).thenThrow(new ValidationFailedException("PASSWORD_REQUIRED"));
+
         String body = "{" +
                 "\"email\":\"leo@example.com\"" +
                 "}";
@@ -179,6 +219,8 @@ class UserControllerTest {
 
     @Test
     void register_confirm_password_mismatch_returns_400_invalid_confirm_password() throws Exception {
+        when(userService.registerUser(any())).thenThrow(new ValidationFailedException("INVALID_CONFIRM_PASSWORD"));
+
         String body = "{" +
                 "\"name\":\"Leo\"," +
                 "\"email\":\"leo@example.com\"," +
@@ -193,4 +235,158 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.message").value("VALIDATION_FAILED"))
                 .andExpect(jsonPath("$.code").value("INVALID_CONFIRM_PASSWORD"));
     }
+
+    @Test
+    void login_shed_by_busy_hashing_pool_returns_503_with_retry_after() throws Exception {
+        when(userService.loginUser(any())).thenThrow(new RetryLaterException(HttpStatus.SERVICE_UNAVAILABLE, "SERVER_BUSY", 1));
+
+        String body = "{" +
+                "\"email\":\"leo@example.com\"," +
+                "\"password\":\"abc12345\"" +
+                "}";
+
+        mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("SERVICE_UNAVAILABLE"))
+                .andExpect(jsonPath("$.code").value("SERVER_BUSY"));
+    }
+
+    @Test
+    void throttled_login_returns_429_before_reaching_service() throws Exception {
+        when(loginThrottle.tryAcquireIp(anyString())).thenReturn(2_500_000_000L);
+
+        String body = "{" +
+                "\"email\":\"leo@example.com\"," +
+                "\"password\":\"abc12345\"" +
+                "}";
+
+        mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.message").value("TOO_MANY_REQUESTS"))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_LOGIN_ATTEMPTS"))
+                .andExpect(jsonPath("$.path").value("/users/login"));
+        verify(userService, never()).loginUser(any());
+    }
+
+    @Test
+    void login_within_ip_limit_reaches_service() throws Exception {
+        when(userService.loginUser(any())).thenReturn(new LoginResponse(123L, "Leo", "USER", "token"));
+
+        String body = "{" +
+                "\"email\":\"leo@example.com\"," +
+                "\"password\":\"abc12345\"" +
+                "}";
+
+        mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("token"));
+        verify(loginThrottle).tryAcquireIp(anyString());
+    }
+
+    @Test
+    void refresh_success_returns_new_token_pair() throws Exception {
+        when(refreshTokenService.refresh("old-refresh"))
+                .thenReturn(new LoginResponse(123L, "Leo", "USER", "token", "new-refresh"));
+
+        mockMvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"old-refresh\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(123))
+                .andExpect(jsonPath("$.accessToken").value("token"))
+                .andExpect(jsonPath("$.refreshToken").value("new-refresh"));
+        verify(userService, never()).loginUser(any());
+    }
+
+    @Test
+    void refresh_with_reused_token_returns_401() throws Exception {
+        when(refreshTokenService.refresh("stolen")).thenThrow(new InvalidTokenException("REFRESH_TOKEN_INVALID"));
+
+        mockMvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"stolen\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("AUTHENTICATION_FAILED"))
+                .andExpect(jsonPath("$.code").value("REFRESH_TOKEN_INVALID"))
+                .andExpect(jsonPath("$.path").value("/users/token/refresh"));
+    }
+
+    @Test
+    void logout_revokes_presented_access_token_and_refresh_session() throws Exception {
+        Instant exp = Instant.parse("2026-01-01T01:00:00Z");
+        when(jwtTokenService.verify("access"))
+                .thenReturn(new AuthenticatedUser(123L, "Leo", UserRole.USER, "jti-1", exp));
+
+        mockMvc.perform(post("/users/logout")
+                        .header("Authorization", "Bearer access")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"refresh\"}"))
+                .andExpect(status().isNoContent());
+        verify(tokenRevocationService).revoke("jti-1", 123L, exp);
+        verify(refreshTokenService).revoke("refresh", 123L);
+    }
+
+    @Test
+    void logout_without_token_returns_401() throws Exception {
+        mockMvc.perform(post("/users/logout"))
+                .andExpect(status().isUnauthorized());
+        verify(tokenRevocationService, never()).revoke(any(), any(), any());
+    }
+
+    @Test
+    void malformed_json_returns_400_validation_failed() throws Exception {
+        mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").value("VALIDATION_FAILED"))
+                .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"))
+                .andExpect(jsonPath("$.path").value("/users/login"));
+        verify(userService, never()).loginUser(any());
+    }
+
+    @Test
+    void refresh_with_blank_token_is_rejected_by_valid_with_table_code() throws Exception {
+        mockMvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\" \"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.error").value("Bad Request"))
+                .andExpect(jsonPath("$.message").value("VALIDATION_FAILED"))
+                .andExpect(jsonPath("$.code").value("REFRESH_TOKEN_REQUIRED"));
+        verify(refreshTokenService, never()).refresh(anyString());
+    }
+
+    @Test
+    void batch_is_public_and_returns_profiles_in_service_order() throws Exception {
+        when(userProfileService.getProfiles("7,3")).thenReturn(new BatchUsersResponse(List.of(
+                new UserProfileItem(7L, "Amy", "USER"),
+                new UserProfileItem(3L, "Leo", "ADMIN"))));
+
+        mockMvc.perform(get("/users/batch").param("ids", "7,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].userId").value(7))
+                .andExpect(jsonPath("$.items[1].displayName").value("Leo"))
+                .andExpect(jsonPath("$.items[1].role").value("ADMIN"))
+                .andExpect(jsonPath("$.items[0].email").doesNotExist());
+    }
+
+    @Test
+    void batch_with_too_many_ids_returns_400() throws Exception {
+        when(userProfileService.getProfiles(anyString())).thenThrow(new ValidationFailedException("TOO_MANY_IDS"));
+
+        mockMvc.perform(get("/users/batch").param("ids", "1,2,3"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("TOO_MANY_IDS"));
+    }
 }
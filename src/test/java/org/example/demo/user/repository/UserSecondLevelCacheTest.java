@@ -0,0 +1,87 @@
+package org.example.demo.user.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.example.demo.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs only against a real MySQL (same disposable schema and profile as
+ * {@code BoardFullTextParityTest}): once warm, lookups by email and by id run no SQL.
+ */
+@SpringBootTest
+@ActiveProfiles("fulltext-it")
+@EnabledIfEnvironmentVariable(named = "FULLTEXT_IT_DB_URL", matches = ".+")
+class UserSecondLevelCacheTest {
+
+    private static final String EMAIL = "l2-cache-it@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", EMAIL);
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void warm_lookup_by_email_and_id_runs_no_sql() {
+        Long userId = userRepository.save(new User(EMAIL, "{bcrypt}hash", "Cache")).getUserId();
+        userRepository.findByEmail(EMAIL);
+
+        statistics.clear();
+        User byEmail = userRepository.findByEmail(EMAIL).orElseThrow();
+        User byId = userRepository.findById(userId).orElseThrow();
+
+        assertEquals(userId, byEmail.getUserId());
+        assertEquals(EMAIL, byId.getEmail());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void warm_batch_load_runs_no_sql_and_sees_updates() {
+        User saved = userRepository.save(new User(EMAIL, "{bcrypt}hash", "Cache"));
+        userRepository.findAllByIdCached(List.of(saved.getUserId()));
+
+        statistics.clear();
+        List<User> warm = userRepository.findAllByIdCached(List.of(saved.getUserId()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals("Cache", warm.get(0).getDisplayName());
+        assertNull(userRepository.findAllByIdCached(List.of(Long.MAX_VALUE)).get(0));
+
+        saved.setDisplayName("Renamed");
+        userRepository.save(saved);
+        assertEquals("Renamed", userRepository.findAllByIdCached(List.of(saved.getUserId())).get(0).getDisplayName());
+    }
+
+    @Test
+    void unknown_email_is_empty() {
+        assertTrue(userRepository.findByEmail("nobody-" + EMAIL).isEmpty());
+    }
+}
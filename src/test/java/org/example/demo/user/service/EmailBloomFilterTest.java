@@ -0,0 +1,87 @@
+package org.example.demo.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.demo.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+class EmailBloomFilterTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private static UserRepository.EmailRow row(long id, String email) {
+        return new UserRepository.EmailRow() {
+            @Override
+            public Long getUserId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+
+    @Test
+    void answers_maybe_until_loaded() {
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, true, 1000, 0.01);
+
+        assertTrue(filter.mightContain("nobody@example.com"));
+    }
+
+    @Test
+    void load_scans_users_by_keyset_pages() {
+        List<UserRepository.EmailRow> firstPage = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            firstPage.add(row(id, "user" + id + "@example.com"));
+        }
+        when(userRepository.findEmailsAfterId(eq(0L), any(Pageable.class))).thenReturn(firstPage);
+        when(userRepository.findEmailsAfterId(eq(10_000L), any(Pageable.class)))
+                .thenReturn(List.of(row(10_001L, "last@example.com")));
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, true, 20_000, 0.01);
+
+        filter.load();
+
+        assertTrue(filter.isReady());
+        assertTrue(filter.mightContain("user1@example.com"));
+        assertTrue(filter.mightContain("user10000@example.com"));
+        assertTrue(filter.mightContain("last@example.com"));
+        assertFalse(filter.mightContain("nobody@example.com"));
+    }
+
+    @Test
+    void false_positive_rate_stays_near_target() {
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, true, 10_000, 0.01);
+        filter.load();
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("member" + i + "@example.com"));
+            if (filter.mightContain("outsider" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void disabled_filter_always_answers_maybe() {
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, false, 1000, 0.01);
+        filter.load();
+
+        assertTrue(filter.mightContain("nobody@example.com"));
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.demo.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.example.demo.user.entity.User;
+import org.example.demo.user.entity.UserRole;
+import org.example.demo.user.exception.InvalidTokenException;
+import org.example.demo.user.security.AuthenticatedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private User user;
+    private TokenRevocationService revocations;
+
+    @BeforeEach
+    void setUp() {
+        revocations = mock(TokenRevocationService.class);
+        user = mock(User.class);
+        when(user.getUserId()).thenReturn(42L);
+        when(user.getDisplayName()).thenReturn("Leo");
+        when(user.getRole()).thenReturn(UserRole.ADMIN);
+    }
+
+    @Test
+    void verify_builds_principal_from_claims() {
+        JwtTokenService service = new JwtTokenService(SECRET, 3600, 100, revocations, new SimpleMeterRegistry());
+        String token = service.generateAccessToken(user);
+
+        AuthenticatedUser principal = service.verify(token);
+
+        assertEquals(42L, principal.getUserId());
+        assertEquals("Leo", principal.getDisplayName());
+        assertEquals(UserRole.ADMIN, principal.getRole());
+        assertEquals("ROLE_ADMIN", principal.getAuthorities().get(0).getAuthority());
+    }
+
+    @Test
+    void repeat_verification_is_served_from_cache() {
+        JwtTokenService service = new JwtTokenService(SECRET, 3600, 100, revocations, new SimpleMeterRegistry());
+        String token = service.generateAccessToken(user);
+
+        assertSame(service.verify(token), service.verify(token));
+    }
+
+    @Test
+    void full_cache_evicts_and_keeps_caching_new_tokens() {
+        JwtTokenService service = new JwtTokenService(SECRET, 3600, 2, revocations, new SimpleMeterRegistry());
+        for (int i = 0; i < 5; i++) {
+            service.verify(service.generateAccessToken(user));
+        }
+        String token = service.generateAccessToken(user);
+
+        assertSame(service.verify(token), service.verify(token));
+    }
+
+    @Test
+    void cache_disabled_still_verifies() {
+        JwtTokenService service = new JwtTokenService(SECRET, 3600, 0, revocations, new SimpleMeterRegistry());
+        String token = service.generateAccessToken(user);
+
+        assertEquals(42L, service.verify(token).getUserId());
+        assertEquals(42L, service.verify(token).getUserId());
+    }
+
+    @Test
+    void tampered_token_is_invalid() {
+        JwtTokenService service = new JwtTokenService(SECRET, 3600, 100, revocations, new SimpleMeterRegistry());
+        String token = service.generateAccessToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        InvalidTokenException ex = assertThrows(InvalidTokenException.class, () -> service.verify(tampered));
+        assertEquals("TOKEN_INVALID", ex.getCode());
+    }
+
+    @Test
+    void token_signed_with_another_key_is_invalid() {
+        String foreign = new JwtTokenService("ffffffffffffffffffffffffffffffff", 3600, 100, revocations, new SimpleMeterRegistry()).generateAccessToken(user);
+        JwtTokenService service = new JwtTokenService(SECRET, 3600, 100, revocations, new SimpleMeterRegistry());
+
+        InvalidTokenException ex = assertThrows(InvalidTokenException.class, () -> service.verify(foreign));
+        assertEquals("TOKEN_INVALID", ex.getCode());
+    }
+
+    @Test
+    void expired_token_is_rejected() {
+        JwtTokenService service = new JwtTokenService(SECRET, -60, 100, revocations, new SimpleMeterRegistry());
+        String token = service.generateAccessToken(user);
+
+        InvalidTokenException ex = assertThrows(InvalidTokenException.class, () -> service.verify(token));
+        assertEquals("TOKEN_EXPIRED", ex.getCode());
+    }
+
+    @Test
+    void issued_tokens_carry_jti_and_expiry() {
+        JwtTokenService service = new JwtTokenService(SECRET, 3600, 100, revocations, new SimpleMeterRegistry());
+
+        AuthenticatedUser principal = service.verify(service.generateAccessToken(user));
+
+        assertNotNull(principal.getTokenId());
+        assertNotNull(principal.getExpiresAt());
+    }
+
+    @Test
+    void revoked_token_is_rejected_even_when_cached() {
+        JwtTokenService service = new JwtTokenService(SECRET, 3600, 100, revocations, new SimpleMeterRegistry());
+        String token = service.generateAccessToken(user);
+        String jti = service.verify(token).getTokenId();
+
+        when(revocations.isRevoked(jti)).thenReturn(true);
+
+        InvalidTokenException ex = assertThrows(InvalidTokenException.class, () -> service.verify(token));
+        assertEquals("TOKEN_REVOKED", ex.getCode());
+    }
+
+    @Test
+    void short_secret_fails_at_startup() {
+        assertThrows(IllegalStateException.class, () -> new JwtTokenService("too-short", 3600, 100, revocations, new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.demo.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LoginThrottleTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burst_is_allowed_then_refills_one_token_per_interval() {
+        LoginThrottle.Limiter limiter = new LoginThrottle.Limiter(3, 10, 100);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, limiter.tryAcquire("k", now));
+        assertEquals(0, limiter.tryAcquire("k", now));
+        assertEquals(0, limiter.tryAcquire("k", now));
+        assertEquals(10 * SECOND, limiter.tryAcquire("k", now));
+        assertEquals(5 * SECOND, limiter.tryAcquire("k", now + 5 * SECOND));
+
+        assertEquals(0, limiter.tryAcquire("k", now + 10 * SECOND));
+        assertTrue(limiter.tryAcquire("k", now + 10 * SECOND) > 0);
+    }
+
+    @Test
+    void keys_are_independent_and_reset_refills() {
+        LoginThrottle.Limiter limiter = new LoginThrottle.Limiter(1, 60, 100);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, limiter.tryAcquire("a", now));
+        assertTrue(limiter.tryAcquire("a", now) > 0);
+        assertEquals(0, limiter.tryAcquire("b", now));
+
+        limiter.reset("a");
+        assertEquals(0, limiter.tryAcquire("a", now));
+    }
+
+    @Test
+    void idle_buckets_are_evicted_once_full_again() {
+        LoginThrottle.Limiter limiter = new LoginThrottle.Limiter(5, 1, 100);
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire("a", now);
+        limiter.tryAcquire("b", now);
+        limiter.tryAcquire("b", now + SECOND / 2);
+
+        limiter.evictIdle(now + SECOND);
+        assertEquals(1, limiter.size());
+
+        limiter.evictIdle(now + 2 * SECOND);
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    void key_count_stays_bounded_under_a_spray_of_distinct_keys() {
+        LoginThrottle.Limiter limiter = new LoginThrottle.Limiter(5, 60, 100);
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("ip-" + i, now);
+        }
+
+        assertEquals(100, limiter.size());
+    }
+
+    @Test
+    void a_spray_of_new_keys_cannot_reset_a_live_bucket() {
+        LoginThrottle.Limiter limiter = new LoginThrottle.Limiter(1, 60, 100);
+        long now = 1_000 * SECOND;
+        assertEquals(0, limiter.tryAcquire("victim", now));
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("junk-" + i, now);
+        }
+
+        assertTrue(limiter.tryAcquire("victim", now) > 0);
+    }
+
+    @Test
+    void a_full_email_table_does_not_lock_out_a_fresh_account() {
+        LoginThrottle throttle = new LoginThrottle(new NormalizerService(), true, 2, 60, 1, 60, 100);
+        for (int i = 0; i < 100; i++) {
+            throttle.tryAcquireEmail("spray-" + i + "@example.com");
+        }
+        assertEquals(100, throttle.emailLimiter().size());
+
+        assertEquals(0, throttle.tryAcquireEmail("fresh@example.com"));
+        assertEquals(0, throttle.tryAcquireEmail("fresh@example.com"));
+        assertTrue(throttle.tryAcquireEmail("spray-0@example.com") > 0);
+        // the IP limit is a separate table and still applies
+        assertEquals(0, throttle.tryAcquireIp("10.0.0.3"));
+        assertEquals(0, throttle.tryAcquireIp("10.0.0.3"));
+        assertTrue(throttle.tryAcquireIp("10.0.0.3") > 0);
+    }
+
+    @Test
+    void email_bucket_uses_normalized_email_and_is_independent_of_ip() {
+        LoginThrottle throttle = new LoginThrottle(new NormalizerService(), true, 2, 60, 1, 60, 100);
+
+        assertEquals(0, throttle.tryAcquireEmail(" Leo@Example.com"));
+        assertTrue(throttle.tryAcquireEmail("leo@example.com") > 0);
+        assertEquals(0, throttle.tryAcquireIp("10.0.0.2"));
+
+        throttle.onSuccess("LEO@example.com ");
+        assertEquals(0, throttle.tryAcquireEmail("leo@example.com"));
+        assertEquals(0, throttle.tryAcquireIp("10.0.0.2"));
+        assertTrue(throttle.tryAcquireIp("10.0.0.2") > 0);
+    }
+
+    @Test
+    void disabled_throttle_allows_everything() {
+        LoginThrottle throttle = new LoginThrottle(new NormalizerService(), false, 1, 60, 1, 60, 100);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, throttle.tryAcquireIp("10.0.0.1"));
+            assertEquals(0, throttle.tryAcquireEmail("leo@example.com"));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.demo.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.example.demo.common.exception.RetryLaterException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor hashing;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hashing.shutdown();
+    }
+
+    /** Encoder whose encode() holds its worker until the test releases it. */
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("hash:" + rawPassword);
+            }
+        };
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge(name) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, gauge(name));
+    }
+
+    @Test
+    void encode_and_matches_run_on_pool_and_are_timed() {
+        hashing = new PasswordHashingExecutor(new BCryptPasswordEncoder(4), registry, 2, 8, 5000, 1);
+
+        String hash = hashing.encode("abc12345");
+
+        assertTrue(hashing.matches("abc12345", hash));
+        assertFalse(hashing.matches("wrong", hash));
+        assertEquals(1, registry.get("password.hashing.duration").tag("operation", "encode").timer().count());
+        assertEquals(2, registry.get("password.hashing.duration").tag("operation", "matches").timer().count());
+        assertEquals(3, registry.get("password.hashing.queue.wait").timer().count());
+    }
+
+    @Test
+    void full_queue_is_shed_immediately_with_503() throws Exception {
+        hashing = new PasswordHashingExecutor(blockingEncoder(), registry, 1, 1, 5000, 3);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hashing.encode("a"));
+        awaitGauge("password.hashing.active", 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hashing.encode("b"));
+        awaitGauge("password.hashing.queue.size", 1);
+
+        RetryLaterException ex = assertThrows(RetryLaterException.class, () -> hashing.encode("c"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+        assertEquals("SERVER_BUSY", ex.getCode());
+        assertEquals(3, ex.getRetryAfterSeconds());
+        assertEquals(1.0, registry.get("password.hashing.rejected").tag("reason", "queue_full").counter().count());
+
+        release.countDown();
+        assertEquals("hash:a", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash:b", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void queued_task_past_wait_deadline_is_dropped() throws Exception {
+        hashing = new PasswordHashingExecutor(blockingEncoder(), registry, 1, 4, 50, 1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hashing.encode("a"));
+        awaitGauge("password.hashing.active", 1);
+
+        assertThrows(RetryLaterException.class, () -> hashing.encode("b"));
+        assertEquals(1.0, registry.get("password.hashing.rejected").tag("reason", "deadline").counter().count());
+
+        release.countDown();
+        // the running task was past the queue, so its caller still gets the result
+        assertEquals("hash:a", running.get(5, TimeUnit.SECONDS));
+    }
+}
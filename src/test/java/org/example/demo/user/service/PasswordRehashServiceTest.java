@@ -0,0 +1,89 @@
+package org.example.demo.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.example.demo.user.entity.User;
+import org.example.demo.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordRehashServiceTest {
+
+    private UserRepository userRepository;
+    private DelegatingPasswordEncoder encoder;
+    private PasswordHashingExecutor passwordHashing;
+    private PasswordRehashService rehashService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        // same shape as PasswordEncoderConfig, at a test-sized cost of 5
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(5);
+        encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        passwordHashing = new PasswordHashingExecutor(encoder, new SimpleMeterRegistry(), 1, 4, 5000, 1);
+        rehashService = new PasswordRehashService(passwordHashing, userRepository, new SimpleMeterRegistry(), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rehashService.shutdown();
+        passwordHashing.shutdown();
+    }
+
+    private static User user(String hash) {
+        User user = mock(User.class);
+        when(user.getUserId()).thenReturn(123L);
+        when(user.getPasswordHash()).thenReturn(hash);
+        return user;
+    }
+
+    @Test
+    void lower_cost_hash_is_rehashed_at_current_cost_and_saved() {
+        String stale = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("abc12345");
+        when(userRepository.updatePasswordHash(eq(123L), eq(stale), anyString())).thenReturn(1);
+
+        rehashService.rehashIfStale(user(stale), "abc12345");
+
+        ArgumentCaptor<String> saved = ArgumentCaptor.forClass(String.class);
+        verify(userRepository, timeout(5000)).updatePasswordHash(eq(123L), eq(stale), saved.capture());
+        assertTrue(saved.getValue().startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches("abc12345", saved.getValue()));
+    }
+
+    @Test
+    void legacy_unprefixed_hash_is_migrated() {
+        String legacy = new BCryptPasswordEncoder(5).encode("abc12345");
+
+        rehashService.rehashIfStale(user(legacy), "abc12345");
+
+        verify(userRepository, timeout(5000)).updatePasswordHash(eq(123L), eq(legacy), startsWith("{bcrypt}"));
+    }
+
+    @Test
+    void current_hash_is_left_alone() {
+        String current = encoder.encode("abc12345");
+
+        rehashService.rehashIfStale(user(current), "abc12345");
+
+        verify(userRepository, never()).updatePasswordHash(anyLong(), any(), any());
+    }
+}
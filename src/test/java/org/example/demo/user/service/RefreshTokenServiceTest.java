@@ -0,0 +1,129 @@
+package org.example.demo.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.example.demo.user.dto.LoginResponse;
+import org.example.demo.user.entity.RefreshToken;
+import org.example.demo.user.entity.User;
+import org.example.demo.user.entity.UserRole;
+import org.example.demo.user.exception.InvalidTokenException;
+import org.example.demo.user.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class RefreshTokenServiceTest {
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private JwtTokenService jwtTokenService;
+    private RefreshTokenService refreshTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        jwtTokenService = mock(JwtTokenService.class);
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtTokenService, 3600);
+        user = mock(User.class);
+        when(user.getUserId()).thenReturn(123L);
+        when(user.getDisplayName()).thenReturn("Leo");
+        when(user.getRole()).thenReturn(UserRole.USER);
+    }
+
+    private RefreshToken stored(String token, Instant expiresAt, Instant rotatedAt) {
+        RefreshToken stored = mock(RefreshToken.class);
+        when(stored.getRefreshTokenId()).thenReturn(7L);
+        when(stored.getUser()).thenReturn(user);
+        when(stored.getFamilyId()).thenReturn("family-1");
+        when(stored.getExpiresAt()).thenReturn(expiresAt);
+        when(stored.getRotatedAt()).thenReturn(rotatedAt);
+        when(refreshTokenRepository.findWithUserByTokenHash(RefreshTokenService.hash(token)))
+                .thenReturn(Optional.of(stored));
+        return stored;
+    }
+
+    @Test
+    void issue_stores_only_the_hash_and_starts_a_family() {
+        String token = refreshTokenService.issue(user);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertEquals(RefreshTokenService.hash(token), captor.getValue().getTokenHash());
+        assertNotEquals(token, captor.getValue().getTokenHash());
+        assertEquals(36, captor.getValue().getFamilyId().length());
+    }
+
+    @Test
+    void refresh_rotates_within_the_family_and_returns_a_new_pair() {
+        stored("old", Instant.now().plusSeconds(60), null);
+        when(refreshTokenRepository.markRotated(eq(7L), any())).thenReturn(1);
+        when(jwtTokenService.generateAccessToken(user)).thenReturn("access");
+
+        LoginResponse res = refreshTokenService.refresh("old");
+
+        assertEquals(123L, res.getUserId());
+        assertEquals("USER", res.getRole());
+        assertEquals("access", res.getAccessToken());
+        assertNotEquals("old", res.getRefreshToken());
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertEquals("family-1", captor.getValue().getFamilyId());
+        assertEquals(RefreshTokenService.hash(res.getRefreshToken()), captor.getValue().getTokenHash());
+    }
+
+    @Test
+    void reusing_a_rotated_token_revokes_the_family() {
+        stored("old", Instant.now().plusSeconds(60), Instant.now().minusSeconds(5));
+
+        InvalidTokenException ex = assertThrows(InvalidTokenException.class, () -> refreshTokenService.refresh("old"));
+
+        assertEquals("REFRESH_TOKEN_INVALID", ex.getCode());
+        verify(refreshTokenRepository).deleteFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any());
+        verify(jwtTokenService, never()).generateAccessToken(any());
+    }
+
+    @Test
+    void losing_the_rotation_race_revokes_the_family() {
+        stored("old", Instant.now().plusSeconds(60), null);
+        when(refreshTokenRepository.markRotated(eq(7L), any())).thenReturn(0);
+
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.refresh("old"));
+
+        verify(refreshTokenRepository).deleteFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void expired_token_returns_refresh_token_expired() {
+        stored("old", Instant.now().minusSeconds(1), null);
+
+        InvalidTokenException ex = assertThrows(InvalidTokenException.class, () -> refreshTokenService.refresh("old"));
+
+        assertEquals("REFRESH_TOKEN_EXPIRED", ex.getCode());
+        verify(refreshTokenRepository, never()).markRotated(anyLong(), any());
+    }
+
+    @Test
+    void unknown_token_returns_refresh_token_invalid() {
+        when(refreshTokenRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        InvalidTokenException ex = assertThrows(InvalidTokenException.class, () -> refreshTokenService.refresh("nope"));
+
+        assertEquals("REFRESH_TOKEN_INVALID", ex.getCode());
+        verify(refreshTokenRepository, never()).deleteFamily(anyString());
+    }
+}
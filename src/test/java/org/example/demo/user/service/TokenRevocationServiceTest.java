@@ -0,0 +1,120 @@
+package org.example.demo.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.demo.user.entity.RevokedToken;
+import org.example.demo.user.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class TokenRevocationServiceTest {
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenRevocationService revocations;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        when(revokedTokenRepository.findActiveJtisAfter(any(), anyString(), any())).thenReturn(List.of());
+        when(revokedTokenRepository.findById(anyString())).thenReturn(Optional.empty());
+        revocations = new TokenRevocationService(revokedTokenRepository, true, 1000, 0.001);
+    }
+
+    @Test
+    void check_before_first_load_runs_the_load_once_instead_of_querying() {
+        assertFalse(revocations.isRevoked("jti-1"));
+        assertFalse(revocations.isRevoked("jti-2"));
+
+        verify(revokedTokenRepository, times(1)).findActiveJtisAfter(any(), anyString(), any());
+        verify(revokedTokenRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void failed_first_load_falls_back_to_the_table_without_retrying_per_request() {
+        when(revokedTokenRepository.findActiveJtisAfter(any(), anyString(), any()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertFalse(revocations.isRevoked("jti-1"));
+        assertFalse(revocations.isRevoked("jti-2"));
+
+        verify(revokedTokenRepository, times(1)).findActiveJtisAfter(any(), anyString(), any());
+        verify(revokedTokenRepository).findById("jti-1");
+        verify(revokedTokenRepository).findById("jti-2");
+    }
+
+    @Test
+    void after_load_unrevoked_tokens_cost_no_query() {
+        revocations.rebuild();
+
+        assertFalse(revocations.isRevoked("jti-1"));
+        verify(revokedTokenRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void rebuilt_filter_hit_is_confirmed_once_then_remembered() {
+        when(revokedTokenRepository.findActiveJtisAfter(any(), anyString(), any())).thenReturn(List.of("jti-1"));
+        when(revokedTokenRepository.findById("jti-1"))
+                .thenReturn(Optional.of(new RevokedToken("jti-1", 7L, Instant.now().plusSeconds(60))));
+        revocations.rebuild();
+
+        assertTrue(revocations.isRevoked("jti-1"));
+        assertTrue(revocations.isRevoked("jti-1"));
+        verify(revokedTokenRepository, times(1)).findById("jti-1");
+    }
+
+    @Test
+    void filter_hit_denied_by_the_table_is_not_queried_again_until_the_next_rebuild() {
+        // in the filter but gone from the table: the same path a false positive takes
+        when(revokedTokenRepository.findActiveJtisAfter(any(), anyString(), any())).thenReturn(List.of("jti-1"));
+        revocations.rebuild();
+
+        assertFalse(revocations.isRevoked("jti-1"));
+        assertFalse(revocations.isRevoked("jti-1"));
+        verify(revokedTokenRepository, times(1)).findById("jti-1");
+
+        revocations.rebuild();
+        assertFalse(revocations.isRevoked("jti-1"));
+        verify(revokedTokenRepository, times(2)).findById("jti-1");
+    }
+
+    @Test
+    void local_revoke_is_visible_immediately_without_a_query() {
+        revocations.rebuild();
+
+        revocations.revoke("jti-1", 7L, Instant.now().plusSeconds(60));
+
+        assertTrue(revocations.isRevoked("jti-1"));
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+        verify(revokedTokenRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void already_expired_token_is_not_stored() {
+        revocations.revoke("jti-1", 7L, Instant.now().minusSeconds(1));
+
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void disabled_never_reports_revoked() {
+        TokenRevocationService disabled = new TokenRevocationService(revokedTokenRepository, false, 1000, 0.001);
+
+        disabled.revoke("jti-1", 7L, Instant.now().plusSeconds(60));
+
+        assertFalse(disabled.isRevoked("jti-1"));
+        verify(revokedTokenRepository, never()).save(any());
+    }
+}
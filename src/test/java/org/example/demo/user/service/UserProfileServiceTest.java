@@ -0,0 +1,84 @@
+package org.example.demo.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+import org.example.demo.common.exception.InternalErrorException;
+import org.example.demo.user.dto.BatchUsersResponse;
+import org.example.demo.user.dto.UserProfileItem;
+import org.example.demo.user.entity.User;
+import org.example.demo.user.entity.UserRole;
+import org.example.demo.user.exception.ValidationFailedException;
+import org.example.demo.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class UserProfileServiceTest {
+
+    private UserRepository userRepository;
+    private UserProfileService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        service = new UserProfileService(userRepository, 3);
+    }
+
+    private static User user(long id, String name, UserRole role) throws Exception {
+        User user = new User("u" + id + "@example.com", "hash", name);
+        user.setRole(role);
+        Field f = User.class.getDeclaredField("userId");
+        f.setAccessible(true);
+        f.set(user, id);
+        return user;
+    }
+
+    @Test
+    void returns_request_order_without_duplicates_or_unknown_ids() throws Exception {
+        // one element per requested id, null where no user has it
+        when(userRepository.findAllByIdCached(List.of(9L, 2L, 5L))).thenReturn(Arrays.asList(
+                user(9L, "Leo", UserRole.ADMIN), user(2L, "Amy", UserRole.USER), null));
+
+        BatchUsersResponse res = service.getProfiles("9, 2,9,5");
+
+        assertEquals(List.of(9L, 2L), res.getItems().stream().map(UserProfileItem::getUserId).toList());
+        assertEquals("Leo", res.getItems().get(0).getDisplayName());
+        assertEquals("ADMIN", res.getItems().get(0).getRole());
+        verify(userRepository, times(1)).findAllByIdCached(any());
+    }
+
+    @Test
+    void database_failure_returns_500() {
+        when(userRepository.findAllByIdCached(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThrows(InternalErrorException.class, () -> service.getProfiles("1"));
+    }
+
+    @Test
+    void caps_distinct_ids() {
+        assertEquals(3, UserProfileService.parseIds("1,2,3,3,1", 3).size());
+        ValidationFailedException ex = assertThrows(ValidationFailedException.class,
+                () -> service.getProfiles("1,2,3,4"));
+        assertEquals("TOO_MANY_IDS", ex.getCode());
+    }
+
+    @Test
+    void rejects_missing_and_malformed_ids() {
+        assertEquals("IDS_REQUIRED",
+                assertThrows(ValidationFailedException.class, () -> service.getProfiles(" ")).getCode());
+        for (String bad : new String[]{"1,,2", "1,", "a", "0", "-1", "1234567890123456789"}) {
+            assertEquals("IDS_INVALID",
+                    assertThrows(ValidationFailedException.class, () -> service.getProfiles(bad)).getCode(), bad);
+        }
+    }
+}
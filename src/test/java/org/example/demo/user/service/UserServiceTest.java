@@ -3,9 +3,11 @@ package org.example.demo.user.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,6 +15,7 @@ import java.lang.reflect.Field;
 import java.time.Instant;
 import java.util.Optional;
 
+import org.example.demo.common.exception.RetryLaterException;
 import org.example.demo.user.dto.LoginRequest;
 import org.example.demo.user.dto.LoginResponse;
 import org.example.demo.user.dto.RegisterUserRequest;
@@ -22,9 +25,15 @@ import org.example.demo.user.exception.AuthenticationFailedException;
 import org.example.demo.user.exception.EmailAlreadyExistsException;
 import org.example.demo.user.exception.ValidationFailedException;
 import org.example.demo.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -36,6 +45,11 @@ class UserServiceTest {
     private Validator validator;
     private UserService userService;
     private NormalizerService normalizerService;
+    private PasswordHashingExecutor passwordHashing;
+    private PasswordRehashService passwordRehash;
+    private EmailBloomFilter emailFilter;
+    private RefreshTokenService refreshTokenService;
+    private LoginThrottle loginThrottle;
 
     @BeforeEach
     void setUp() {
@@ -52,7 +66,20 @@ class UserServiceTest {
             return s == null ? null : s.trim();
         });
         validator = Validation.buildDefaultValidatorFactory().getValidator();
-        userService = new UserService(userRepository, jwtTokenService, validator, normalizerService);
+        passwordHashing = new PasswordHashingExecutor(new BCryptPasswordEncoder(), new SimpleMeterRegistry(), 1, 4, 5000, 1);
+        passwordRehash = mock(PasswordRehashService.class);
+        // not loaded yet: answers "maybe" for every email, so the lookup always runs
+        emailFilter = new EmailBloomFilter(userRepository, true, 1000, 0.01);
+        refreshTokenService = mock(RefreshTokenService.class);
+        // mock returns 0 (no wait) unless a test stubs it
+        loginThrottle = mock(LoginThrottle.class);
+        userService = new UserService(userRepository, jwtTokenService, validator, normalizerService, passwordHashing,
+                passwordRehash, emailFilter, refreshTokenService, loginThrottle, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashing.shutdown();
     }
 
     @Test
@@ -145,6 +172,41 @@ class UserServiceTest {
         assertThrows(EmailAlreadyExistsException.class, () -> userService.registerUser(req));
     }
 
+    @Test
+    void register_email_the_filter_has_never_seen_skips_lookup() throws Exception {
+        emailFilter.load();
+        RegisterUserRequest req = new RegisterUserRequest();
+        req.setName("Leo");
+        req.setEmail("leo@example.com");
+        req.setPassword("abc12345");
+        req.setConfirmPassword("abc12345");
+
+        User saved = new User("leo@example.com", "hash", "Leo");
+        setField(saved, "userId", 123L);
+        when(userRepository.save(any(User.class))).thenReturn(saved);
+
+        userService.registerUser(req);
+
+        verify(userRepository, never()).findByEmail(anyString());
+        assertTrue(emailFilter.mightContain("leo@example.com"));
+    }
+
+    @Test
+    void register_unique_violation_on_insert_returns_409() {
+        emailFilter.load();
+        RegisterUserRequest req = new RegisterUserRequest();
+        req.setName("Leo");
+        req.setEmail("leo@example.com");
+        req.setPassword("abc12345");
+        req.setConfirmPassword("abc12345");
+
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement [Duplicate entry 'leo@example.com' for key 'users.uk_users_email']"));
+
+        assertThrows(EmailAlreadyExistsException.class, () -> userService.registerUser(req));
+        assertTrue(emailFilter.mightContain("leo@example.com"));
+    }
+
     @Test
     void login_success_returns_access_token() throws Exception {
         LoginRequest req = new LoginRequest();
@@ -158,12 +220,16 @@ class UserServiceTest {
 
         when(userRepository.findByEmail("leo@example.com")).thenReturn(Optional.of(user));
         when(jwtTokenService.generateAccessToken(user)).thenReturn("token-123");
+        when(refreshTokenService.issue(user)).thenReturn("refresh-123");
 
         LoginResponse res = userService.loginUser(req);
         assertEquals(123L, res.getUserId());
         assertEquals("Leo", res.getDisplayName());
         assertEquals("USER", res.getRole());
         assertEquals("token-123", res.getAccessToken());
+        assertEquals("refresh-123", res.getRefreshToken());
+        verify(passwordRehash).rehashIfStale(user, "abc12345");
+        verify(loginThrottle).onSuccess("leo@example.com");
     }
 
     @Test
@@ -179,6 +245,22 @@ class UserServiceTest {
         when(userRepository.findByEmail("leo@example.com")).thenReturn(Optional.of(user));
 
         assertThrows(AuthenticationFailedException.class, () -> userService.loginUser(req));
+        verify(passwordRehash, never()).rehashIfStale(any(), any());
+        verify(refreshTokenService, never()).issue(any());
+    }
+
+    @Test
+    void login_throttled_email_returns_429_before_lookup_or_hashing() {
+        when(loginThrottle.tryAcquireEmail("leo@example.com")).thenReturn(2_500_000_000L);
+        LoginRequest req = new LoginRequest();
+        req.setEmail(" Leo@Example.com");
+        req.setPassword("abc12345");
+
+        RetryLaterException ex = assertThrows(RetryLaterException.class, () -> userService.loginUser(req));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatus());
+        assertEquals("TOO_MANY_LOGIN_ATTEMPTS", ex.getCode());
+        assertEquals(3, ex.getRetryAfterSeconds());
+        verify(userRepository, never()).findByEmail(anyString());
     }
 
     @Test